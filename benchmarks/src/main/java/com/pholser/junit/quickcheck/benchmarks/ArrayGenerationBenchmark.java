@@ -0,0 +1,101 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2020 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.benchmarks;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import com.pholser.junit.quickcheck.generator.GenerationStatus;
+import com.pholser.junit.quickcheck.generator.Generator;
+import com.pholser.junit.quickcheck.internal.generator.GeneratorRepository;
+import com.pholser.junit.quickcheck.internal.generator.ServiceLoaderGeneratorSource;
+import com.pholser.junit.quickcheck.random.LinearCongruentialRandom;
+import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how many primitive arrays per second can be generated, and
+ * shrunk, by the generator the repository gives for an array type.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class ArrayGenerationBenchmark {
+    @Param({"byte", "int", "long", "double"})
+    public String component;
+
+    @Param({"100", "10000"})
+    public int length;
+
+    private SourceOfRandomness random;
+    private GenerationStatus status;
+    private Generator<?> arrays;
+    private Object generated;
+
+    @Setup public void setUp() {
+        random = new SourceOfRandomness(new LinearCongruentialRandom(0));
+        status = new FixedSize(length);
+        arrays =
+            new GeneratorRepository(random)
+                .register(new ServiceLoaderGeneratorSource())
+                .type(arrayType());
+        generated = arrays.generate(random, new FixedSize(100));
+    }
+
+    @Benchmark public Object generate() {
+        return arrays.generate(random, status);
+    }
+
+    @Benchmark public List<?> shrinkHundredElements() {
+        return arrays.shrink(random, generated);
+    }
+
+    private Class<?> arrayType() {
+        switch (component) {
+            case "byte":
+                return byte[].class;
+            case "long":
+                return long[].class;
+            case "double":
+                return double[].class;
+            default:
+                return int[].class;
+        }
+    }
+}
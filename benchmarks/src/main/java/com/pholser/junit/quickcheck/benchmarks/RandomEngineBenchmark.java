@@ -0,0 +1,113 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2020 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.benchmarks;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import com.pholser.junit.quickcheck.random.LinearCongruentialRandom;
+import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+import com.pholser.junit.quickcheck.random.SplitMix64Random;
+import com.pholser.junit.quickcheck.random.Xoshiro256StarStarRandom;
+import java.time.Instant;
+import java.util.Random;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures draws and copies per second from a {@link SourceOfRandomness}
+ * over each of the JDK sources of randomness it can be backed by.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class RandomEngineBenchmark {
+    @Param({"jdk", "linear-congruential", "splitmix64", "xoshiro256**"})
+    public String engine;
+
+    private static final Instant LATEST = Instant.parse("2100-01-01T00:00:00Z");
+
+    private SourceOfRandomness random;
+
+    @Setup public void setUp() {
+        switch (engine) {
+            case "linear-congruential":
+                random = new SourceOfRandomness(new LinearCongruentialRandom());
+                break;
+            case "splitmix64":
+                random = new SourceOfRandomness(new SplitMix64Random());
+                break;
+            case "xoshiro256**":
+                random = new SourceOfRandomness(new Xoshiro256StarStarRandom());
+                break;
+            default:
+                random = new SourceOfRandomness(new Random());
+        }
+    }
+
+    @Benchmark public long nextLong() {
+        return random.nextLong();
+    }
+
+    @Benchmark public int nextIntInRange() {
+        return random.nextInt(-1000, 1000);
+    }
+
+    @Benchmark public long nextLongInWideRange() {
+        return random.nextLong(Long.MIN_VALUE, Long.MAX_VALUE - 1);
+    }
+
+    @Benchmark public Instant nextInstant() {
+        return random.nextInstant(Instant.EPOCH, LATEST);
+    }
+
+    @Benchmark public double nextDouble() {
+        return random.nextDouble();
+    }
+
+    @Benchmark public boolean nextBoolean() {
+        return random.nextBoolean();
+    }
+
+    @Benchmark public Random toJDKRandom() {
+        return random.toJDKRandom();
+    }
+
+    @Benchmark public SourceOfRandomness fork() {
+        return random.fork();
+    }
+}
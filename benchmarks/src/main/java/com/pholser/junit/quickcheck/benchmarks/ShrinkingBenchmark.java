@@ -0,0 +1,133 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2020 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.benchmarks;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.junit.Assert.assertTrue;
+
+import com.pholser.junit.quickcheck.From;
+import com.pholser.junit.quickcheck.Property;
+import com.pholser.junit.quickcheck.When;
+import com.pholser.junit.quickcheck.generator.GenerationStatus;
+import com.pholser.junit.quickcheck.generator.InRange;
+import com.pholser.junit.quickcheck.generator.java.util.ArrayListGenerator;
+import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+import com.pholser.junit.quickcheck.runner.JUnitQuickcheck;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Request;
+import org.junit.runner.Result;
+import org.junit.runner.RunWith;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how long it takes, and how many times the property is invoked,
+ * to shrink a large failing list to a minimal counterexample: a value
+ * greater than 990 and a value less than 10. Each measurement iteration
+ * verifies and shrinks the same counterexample; the {@code invocations}
+ * counter totals the property invocations over all measurement iterations.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ShrinkingBenchmark {
+    static int length;
+    static int invocations;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Invocations {
+        public int invocations;
+
+        @Setup(Level.Iteration) public void clear() {
+            ShrinkingBenchmark.invocations = 0;
+        }
+
+        void record() {
+            invocations = ShrinkingBenchmark.invocations;
+        }
+    }
+
+    @Param({"1000", "10000"})
+    public int items;
+
+    @Setup public void setUp() {
+        length = items;
+    }
+
+    @Benchmark public Result shrinkList(Invocations counter) {
+        Result result =
+            new JUnitCore().run(Request.aClass(LargeListProperty.class));
+        if (result.getFailureCount() != 1)
+            throw new IllegalStateException("property did not fail");
+
+        counter.record();
+        return result;
+    }
+
+    public static class LargeLists extends ArrayListGenerator {
+        @Override public ArrayList generate(
+            SourceOfRandomness random,
+            GenerationStatus status) {
+
+            return super.generate(random, new FixedSize(length));
+        }
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class LargeListProperty {
+        @Property(
+            trials = 1,
+            maxShrinks = Integer.MAX_VALUE,
+            maxShrinkDepth = Integer.MAX_VALUE)
+        public void noLargeItems(
+            @When(seed = 1L) @From(LargeLists.class)
+            List<@InRange(minInt = 0, maxInt = 1_000) Integer> items) {
+
+            ++invocations;
+
+            assertTrue(
+                items.stream().noneMatch(i -> i > 990)
+                    || items.stream().noneMatch(i -> i < 10));
+        }
+    }
+}
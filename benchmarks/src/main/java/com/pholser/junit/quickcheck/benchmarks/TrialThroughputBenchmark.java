@@ -0,0 +1,127 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2020 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.benchmarks;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import com.pholser.junit.quickcheck.Property;
+import com.pholser.junit.quickcheck.runner.JUnitQuickcheck;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.rules.TestName;
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Request;
+import org.junit.runner.Result;
+import org.junit.runner.RunWith;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how many trials per second the runner can verify for a
+ * property whose body does next to nothing, so that the cost of the
+ * verification machinery around each trial dominates.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TrialThroughputBenchmark {
+    static final int TRIALS = 1_000;
+
+    @Benchmark
+    @OperationsPerInvocation(TRIALS)
+    public Result trivialProperty() {
+        return run(TrivialProperty.class);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TRIALS)
+    public Result propertyWithFixtures() {
+        return run(PropertyWithFixtures.class);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TRIALS)
+    public Result propertyWithFixturesButNoRules() {
+        return run(PropertyWithFixturesButNoRules.class);
+    }
+
+    private static Result run(Class<?> propertyClass) {
+        Result result = new JUnitCore().run(Request.aClass(propertyClass));
+        if (!result.wasSuccessful())
+            throw new IllegalStateException(result.getFailures().toString());
+        return result;
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class TrivialProperty {
+        @Property(trials = TRIALS) public void holds(int i) {
+        }
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class PropertyWithFixtures {
+        @Rule public final TestName name =
+            new TestName();
+
+        private int calls;
+
+        @Before public void before() {
+            ++calls;
+        }
+
+        @Property(trials = TRIALS) public void holds(int i) {
+        }
+
+        @After public void after() {
+            --calls;
+        }
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class PropertyWithFixturesButNoRules {
+        private int calls;
+
+        @Before public void before() {
+            ++calls;
+        }
+
+        @Property(trials = TRIALS) public void holds(int i) {
+        }
+
+        @After public void after() {
+            --calls;
+        }
+    }
+}
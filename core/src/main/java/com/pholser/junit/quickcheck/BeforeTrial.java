@@ -0,0 +1,50 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2020 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * <p>Mark a {@code public void} no-arg instance method of a class that is
+ * {@linkplain org.junit.runner.RunWith run with} the
+ * {@link com.pholser.junit.quickcheck.runner.JUnitQuickcheck} runner with
+ * this annotation to have it invoked before each trial of the class's
+ * properties, and before each attempt to shrink a failing set of
+ * arguments.</p>
+ *
+ * <p>Such methods are invoked on the instance the property method is then
+ * invoked on, inside its {@link org.junit.Before}/{@link org.junit.After}
+ * methods and rules. They are meant to reset the state of fixtures that are
+ * set up once per property, with {@link Lifecycle#PER_PROPERTY}.</p>
+ */
+@Target(METHOD)
+@Retention(RUNTIME)
+public @interface BeforeTrial {
+}
@@ -0,0 +1,68 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2020 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck;
+
+import java.util.List;
+
+/**
+ * <p>Remembers the trials of properties that have failed, so that later runs
+ * can verify those trials again before any fresh ones.</p>
+ *
+ * <p>A counterexample is remembered as the base seed of the property and
+ * the index of the failing trial, in the form {@code <seed>:<trial>} that
+ * the system property {@code junit-quickcheck.replay} accepts. Properties
+ * are named as {@code <test class name>#<method name>}.</p>
+ *
+ * <p>Implementations should have an accessible no-arg constructor.</p>
+ *
+ * @see Property#counterexampleStore()
+ */
+public interface CounterexampleStore {
+    /**
+     * @param property name of a property
+     * @return the counterexamples remembered for the property, earliest
+     * first
+     */
+    List<String> load(String property);
+
+    /**
+     * Remembers a counterexample of a property, unless it is already
+     * remembered.
+     *
+     * @param property name of a property
+     * @param counterexample a counterexample of the property
+     */
+    void save(String property, String counterexample);
+
+    /**
+     * Forgets a counterexample of a property, for instance because the
+     * property no longer fails with it.
+     *
+     * @param property name of a property
+     * @param counterexample a counterexample of the property
+     */
+    void delete(String property, String counterexample);
+}
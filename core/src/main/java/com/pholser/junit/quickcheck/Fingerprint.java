@@ -0,0 +1,54 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2020 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck;
+
+/**
+ * <p>Reduces the arguments of a property to a value that identifies them,
+ * for use where junit-quickcheck remembers which arguments it has already
+ * verified the property with.</p>
+ *
+ * <p>By default, arguments are identified by themselves, compared with
+ * {@link java.util.Arrays#deepEquals(Object[], Object[])} while shrinking,
+ * and by hashes of them across trials (see
+ * {@link Property#trialCacheSize()}). Supply a
+ * fingerprint when the arguments' {@link Object#equals(Object)} or
+ * {@link Object#hashCode()} are expensive, or when arguments that are not
+ * equal should be regarded as the same.</p>
+ *
+ * <p>Implementations should have an accessible no-arg constructor.</p>
+ *
+ * @see Property#shrinkFingerprint()
+ * @see Property#trialFingerprint()
+ */
+@FunctionalInterface
+public interface Fingerprint {
+    /**
+     * @param args arguments of a property
+     * @return a value whose {@link Object#equals(Object)} and
+     * {@link Object#hashCode()} identify the arguments
+     */
+    Object of(Object[] args);
+}
@@ -0,0 +1,52 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2020 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck;
+
+/**
+ * Represents how often the instance of a test class and its fixtures are
+ * set up for the verification of a property.
+ *
+ * @see Property#lifecycle()
+ * @see BeforeTrial
+ */
+public enum Lifecycle {
+    /**
+     * Make a new instance of the test class for each trial of a property,
+     * and each attempt to shrink a failing set of arguments, with
+     * {@link org.junit.Before}/{@link org.junit.After} methods and rules
+     * wrapped around each invocation of the property method.
+     */
+    PER_TRIAL,
+
+    /**
+     * Make one instance of the test class for a property, and run its
+     * {@link org.junit.Before}/{@link org.junit.After} methods and rules
+     * once, around all the trials of the property and the shrinking of a
+     * failing set of arguments. Use {@link BeforeTrial} methods to reset
+     * whatever state must not carry over from one trial to the next.
+     */
+    PER_PROPERTY
+}
@@ -25,6 +25,7 @@
 
 package com.pholser.junit.quickcheck;
 
+import static com.pholser.junit.quickcheck.Lifecycle.PER_TRIAL;
 import static com.pholser.junit.quickcheck.Mode.SAMPLING;
 import static java.lang.annotation.ElementType.METHOD;
 import static java.lang.annotation.RetentionPolicy.RUNTIME;
@@ -32,6 +33,7 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
 import com.pholser.junit.quickcheck.hook.NilMinimalCounterexampleHook;
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
+import java.util.Random;
 
 /**
  * <p>Mark a method on a class that is {@linkplain org.junit.runner.RunWith
@@ -56,6 +58,117 @@ public @interface Property {
      */
     int trials() default 100;
 
+    /**
+     * <p>In {@link Mode#SAMPLING} mode, asks that when every parameter of the
+     * property takes its values from a known, finite domain -- parameters of
+     * type {@code boolean} or of an {@code enum} type, or parameters marked
+     * with {@link com.pholser.junit.quickcheck.generator.Only} -- and there
+     * are no more tuples of such values than {@link #trials()}, the property
+     * be verified once with each tuple instead of with {@link #trials()}
+     * randomly chosen tuples. The trials saved this way are logged.</p>
+     *
+     * <p>Not in effect when {@link #duration()} is positive, or when any
+     * parameter is {@linkplain When#satisfies() constrained}.</p>
+     *
+     * @return whether to enumerate small finite domains of arguments
+     */
+    boolean enumerateFiniteDomains() default false;
+
+    /**
+     * <p>In {@link Mode#SAMPLING} mode, a positive value asks that tuples of
+     * arguments keep being generated and verified until this many
+     * milliseconds have elapsed, instead of stopping after {@link #trials()}
+     * tuples. {@link #trials()} then only influences the sizes of generated
+     * values. Shrinking a failing tuple is bounded separately, by
+     * {@link #maxShrinkTime()}.</p>
+     *
+     * <p>A non-positive value means that the property is verified with a
+     * fixed number of trials.</p>
+     *
+     * @return wall-clock budget for verifying the property, in milliseconds
+     */
+    int duration() default 0;
+
+    /**
+     * @return the minimum number of trials to verify the property with, even
+     * if {@link #duration()} has elapsed; in effect only when
+     * {@link #duration()} is positive
+     */
+    int minTrials() default 0;
+
+    /**
+     * @return the maximum number of trials to verify the property with, even
+     * if {@link #duration()} has not elapsed; in effect only when
+     * {@link #duration()} is positive
+     */
+    int maxTrials() default Integer.MAX_VALUE;
+
+    /**
+     * <p>In {@link Mode#SAMPLING} mode, trials can be spread across several
+     * threads, each with its own generators and sources of randomness.
+     * Properties verified this way, and any fixtures they use, must tolerate
+     * being run concurrently.</p>
+     *
+     * <p>A non-positive value means to use the value of the system property
+     * {@code junit-quickcheck.parallelism}, or a single thread if that
+     * property is not set.</p>
+     *
+     * @return how many threads to verify the property's trials with
+     */
+    int parallelism() default 0;
+
+    /**
+     * <p>How often to make a new instance of the test class, and run its
+     * {@link org.junit.Before}/{@link org.junit.After} methods and rules,
+     * while verifying the property. With {@link Lifecycle#PER_PROPERTY},
+     * they happen once for the property, and every trial and shrink attempt
+     * invokes the property method on the same instance, after any
+     * {@link BeforeTrial} methods. Such properties are verified and shrunk
+     * on a single thread: they may not ask for more than one with
+     * {@link #parallelism()} or {@link #shrinkParallelism()}, and the
+     * system property {@code junit-quickcheck.parallelism} does not apply to
+     * them.</p>
+     *
+     * @return the lifecycle of the test class instance for the property
+     */
+    Lifecycle lifecycle() default PER_TRIAL;
+
+    /**
+     * <p>In {@link Mode#SAMPLING} mode, a positive value asks that
+     * junit-quickcheck remember up to this many of the tuples of arguments
+     * the property has been verified with, and skip any later trial whose
+     * tuple it remembers. Skipped trials count toward {@link #trials()}. This
+     * spares expensive properties whose parameters take values from small or
+     * skewed domains from verifying the same tuple again. How many trials
+     * were skipped is logged, and reported with any failure.</p>
+     *
+     * <p>Only a pair of independent 64-bit hashes of each tuple, or of its
+     * {@linkplain #trialFingerprint() fingerprint}, is remembered, not the
+     * tuple itself; a later tuple is skipped if both of its hashes match a
+     * remembered pair. Strings, numbers, arrays and collections of them are
+     * hashed from all of their contents, so that distinct such tuples are
+     * practically never confused; other arguments are hashed from their
+     * {@link Object#hashCode()}, so arguments whose hash codes collide may be
+     * taken as the same. The memory used is bounded by this value.</p>
+     *
+     * <p>A non-positive value means that every trial is verified.</p>
+     *
+     * @return how many tuples of arguments to remember across trials
+     */
+    int trialCacheSize() default 0;
+
+    /**
+     * <p>The kind of {@link Fingerprint} with which to identify the tuples of
+     * arguments remembered across trials.</p>
+     *
+     * <p>The default value means that tuples are identified by
+     * themselves.</p>
+     *
+     * @return the type of fingerprint for remembered tuples; in effect only
+     * when {@link #trialCacheSize()} is positive
+     */
+    Class<? extends Fingerprint> trialFingerprint() default Fingerprint.class;
+
     /**
      * @return whether or not to attempt to {@linkplain
      * com.pholser.junit.quickcheck.generator.Shrink shrink} a failing set
@@ -85,6 +198,106 @@ public @interface Property {
      */
     int maxShrinkTime() default 60_000;
 
+    /**
+     * <p>Asks that a failing set of parameters be shrunk by replaying
+     * their generation with simpler choices than the random draws that
+     * generated them, instead of by asking their generators for
+     * {@linkplain com.pholser.junit.quickcheck.generator.Shrink smaller
+     * values}. Values shrunk this way are ones their generators could have
+     * generated, so this works for generators that do not shrink values
+     * themselves.</p>
+     *
+     * <p>The random draws of each trial are then derived differently from
+     * the property's source of randomness, so a given seed gives different
+     * values than when this is {@code false}.</p>
+     *
+     * @return whether to shrink the random choices made while generating a
+     * failing set of parameters; in effect only when {@link #shrink()} is
+     * {@code true}
+     */
+    boolean integratedShrinking() default false;
+
+    /**
+     * <p>A value greater than one asks that shrinking verify this many
+     * candidates at a time, each on its own thread with its own instance of
+     * the test class. The earliest of them, in the order that generators
+     * offer them, to also fail the property is taken as the next smaller
+     * counterexample, and verifications of the others are cancelled; so the
+     * result of shrinking is the same as when verifying one candidate at a
+     * time. Properties shrunk this way, and any fixtures they use, must
+     * tolerate being run concurrently.</p>
+     *
+     * @return how many shrink candidates to verify at a time; in effect only
+     * when {@link #shrink()} is {@code true}
+     */
+    int shrinkParallelism() default 1;
+
+    /**
+     * <p>While shrinking, different paths can lead to the same arguments.
+     * junit-quickcheck remembers up to this many of the most recently
+     * verified sets of arguments, and does not verify the property again with
+     * any of them. How often this happens is reported with the minimal
+     * counterexample.</p>
+     *
+     * <p>A non-positive value means that every shrink candidate is
+     * verified.</p>
+     *
+     * @return how many sets of arguments to remember while shrinking; in
+     * effect only when {@link #shrink()} is {@code true}
+     */
+    int shrinkCacheSize() default 1_000;
+
+    /**
+     * <p>The kind of {@link Fingerprint} with which to identify the sets of
+     * arguments remembered while shrinking.</p>
+     *
+     * <p>The default value means that arguments are identified by
+     * themselves.</p>
+     *
+     * @return the type of fingerprint for remembered arguments; in effect
+     * only when {@link #shrinkCacheSize()} is positive
+     */
+    Class<? extends Fingerprint> shrinkFingerprint() default Fingerprint.class;
+
+    /**
+     * <p>The kind of JDK source of randomness that feeds the generators of
+     * the property's parameters. Besides {@link java.util.Random}, whose
+     * every draw updates an atomic seed, junit-quickcheck offers the faster
+     * {@link com.pholser.junit.quickcheck.random.SplitMix64Random} and
+     * {@link com.pholser.junit.quickcheck.random.Xoshiro256StarStarRandom}.
+     * Any subclass of {@link java.util.Random} with an accessible no-arg
+     * constructor, whose sequence of values is determined by
+     * {@link java.util.Random#setSeed(long)}, will do.</p>
+     *
+     * <p>The default value means to use the class named by the system
+     * property {@code junit-quickcheck.random}, or
+     * {@link com.pholser.junit.quickcheck.random.LinearCongruentialRandom}
+     * (which gives the same values as {@link java.util.Random}) if that
+     * property is not set.</p>
+     *
+     * @return the type of source of randomness to use for the property
+     */
+    Class<? extends Random> random() default Random.class;
+
+    /**
+     * <p>Where to remember the failing trials of the property across runs.
+     * In {@link Mode#SAMPLING} mode, the property is first verified with the
+     * trials remembered from earlier runs, in the order they were
+     * remembered, and then with fresh trials if none of those fail. A
+     * remembered trial that no longer fails is forgotten; a trial that
+     * fails is remembered.</p>
+     *
+     * <p>The default value means to use a
+     * {@link com.pholser.junit.quickcheck.hook.DirectoryCounterexampleStore}
+     * in the directory named by the system property
+     * {@code junit-quickcheck.counterexamples}, or to remember nothing if
+     * that property is not set.</p>
+     *
+     * @return the type of store for the property's counterexamples
+     */
+    Class<? extends CounterexampleStore> counterexampleStore()
+        default CounterexampleStore.class;
+
     /**
      * @return callback that it is executed if a minimal counterexample
      * is found (after shrinking)
@@ -255,4 +255,220 @@ public interface Gen<T> {
 
         return result;
     }
+
+    /**
+     * A generation strategy that can produce {@code boolean} values without
+     * boxing them.
+     */
+    @FunctionalInterface
+    interface OfBoolean extends Gen<Boolean> {
+        /**
+         * Generates a {@code boolean} value.
+         *
+         * @param random source of randomness to be used when generating the
+         * value
+         * @param status an object that can be used to influence the generated
+         * value
+         * @return the generated value
+         */
+        boolean generateBoolean(
+            SourceOfRandomness random,
+            GenerationStatus status);
+
+        @Override default Boolean generate(
+            SourceOfRandomness random,
+            GenerationStatus status) {
+
+            return generateBoolean(random, status);
+        }
+    }
+
+    /**
+     * A generation strategy that can produce {@code byte} values without
+     * boxing them.
+     */
+    @FunctionalInterface
+    interface OfByte extends Gen<Byte> {
+        /**
+         * Generates a {@code byte} value.
+         *
+         * @param random source of randomness to be used when generating the
+         * value
+         * @param status an object that can be used to influence the generated
+         * value
+         * @return the generated value
+         */
+        byte generateByte(
+            SourceOfRandomness random,
+            GenerationStatus status);
+
+        @Override default Byte generate(
+            SourceOfRandomness random,
+            GenerationStatus status) {
+
+            return generateByte(random, status);
+        }
+    }
+
+    /**
+     * A generation strategy that can produce {@code char} values without
+     * boxing them.
+     */
+    @FunctionalInterface
+    interface OfChar extends Gen<Character> {
+        /**
+         * Generates a {@code char} value.
+         *
+         * @param random source of randomness to be used when generating the
+         * value
+         * @param status an object that can be used to influence the generated
+         * value
+         * @return the generated value
+         */
+        char generateChar(
+            SourceOfRandomness random,
+            GenerationStatus status);
+
+        @Override default Character generate(
+            SourceOfRandomness random,
+            GenerationStatus status) {
+
+            return generateChar(random, status);
+        }
+    }
+
+    /**
+     * A generation strategy that can produce {@code short} values without
+     * boxing them.
+     */
+    @FunctionalInterface
+    interface OfShort extends Gen<Short> {
+        /**
+         * Generates a {@code short} value.
+         *
+         * @param random source of randomness to be used when generating the
+         * value
+         * @param status an object that can be used to influence the generated
+         * value
+         * @return the generated value
+         */
+        short generateShort(
+            SourceOfRandomness random,
+            GenerationStatus status);
+
+        @Override default Short generate(
+            SourceOfRandomness random,
+            GenerationStatus status) {
+
+            return generateShort(random, status);
+        }
+    }
+
+    /**
+     * A generation strategy that can produce {@code int} values without
+     * boxing them.
+     */
+    @FunctionalInterface
+    interface OfInt extends Gen<Integer> {
+        /**
+         * Generates a {@code int} value.
+         *
+         * @param random source of randomness to be used when generating the
+         * value
+         * @param status an object that can be used to influence the generated
+         * value
+         * @return the generated value
+         */
+        int generateInt(
+            SourceOfRandomness random,
+            GenerationStatus status);
+
+        @Override default Integer generate(
+            SourceOfRandomness random,
+            GenerationStatus status) {
+
+            return generateInt(random, status);
+        }
+    }
+
+    /**
+     * A generation strategy that can produce {@code long} values without
+     * boxing them.
+     */
+    @FunctionalInterface
+    interface OfLong extends Gen<Long> {
+        /**
+         * Generates a {@code long} value.
+         *
+         * @param random source of randomness to be used when generating the
+         * value
+         * @param status an object that can be used to influence the generated
+         * value
+         * @return the generated value
+         */
+        long generateLong(
+            SourceOfRandomness random,
+            GenerationStatus status);
+
+        @Override default Long generate(
+            SourceOfRandomness random,
+            GenerationStatus status) {
+
+            return generateLong(random, status);
+        }
+    }
+
+    /**
+     * A generation strategy that can produce {@code float} values without
+     * boxing them.
+     */
+    @FunctionalInterface
+    interface OfFloat extends Gen<Float> {
+        /**
+         * Generates a {@code float} value.
+         *
+         * @param random source of randomness to be used when generating the
+         * value
+         * @param status an object that can be used to influence the generated
+         * value
+         * @return the generated value
+         */
+        float generateFloat(
+            SourceOfRandomness random,
+            GenerationStatus status);
+
+        @Override default Float generate(
+            SourceOfRandomness random,
+            GenerationStatus status) {
+
+            return generateFloat(random, status);
+        }
+    }
+
+    /**
+     * A generation strategy that can produce {@code double} values without
+     * boxing them.
+     */
+    @FunctionalInterface
+    interface OfDouble extends Gen<Double> {
+        /**
+         * Generates a {@code double} value.
+         *
+         * @param random source of randomness to be used when generating the
+         * value
+         * @param status an object that can be used to influence the generated
+         * value
+         * @return the generated value
+         */
+        double generateDouble(
+            SourceOfRandomness random,
+            GenerationStatus status);
+
+        @Override default Double generate(
+            SourceOfRandomness random,
+            GenerationStatus status) {
+
+            return generateDouble(random, status);
+        }
+    }
 }
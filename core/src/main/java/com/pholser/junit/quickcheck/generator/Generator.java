@@ -29,6 +29,7 @@ import static com.pholser.junit.quickcheck.internal.Reflection.allAnnotations;
 import static com.pholser.junit.quickcheck.internal.Reflection.findMethod;
 import static com.pholser.junit.quickcheck.internal.Reflection.instantiate;
 import static com.pholser.junit.quickcheck.internal.Reflection.invoke;
+import static com.pholser.junit.quickcheck.internal.Sequences.flatMapLazily;
 import static java.math.BigDecimal.ONE;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
@@ -48,6 +49,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import org.javaruntype.type.TypeParameter;
 import org.javaruntype.type.Types;
 import org.javaruntype.type.WildcardTypeParameter;
@@ -118,6 +121,26 @@ public abstract class Generator<T> implements Gen<T>, Shrink<T> {
         return doShrink(random, narrow(larger));
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Generators first ensure that they {@linkplain #canShrink(Object) can
+     * participate} in shrinking the given value, and if so, they
+     * {@linkplain #doShrinkLazily(SourceOfRandomness, Object) produce shrinks
+     * on demand}.</p>
+     */
+    @Override public final Stream<T> shrinkLazily(
+        SourceOfRandomness random,
+        Object larger) {
+
+        if (!canShrink(larger)) {
+            throw new IllegalStateException(
+                getClass() + " not capable of shrinking " + larger);
+        }
+
+        return doShrinkLazily(random, narrow(larger));
+    }
+
     /**
      * <p>Tells whether this generator is allowed to participate in the
      * {@link Shrink} process for the given "larger" value.</p>
@@ -149,6 +172,25 @@ public abstract class Generator<T> implements Gen<T>, Shrink<T> {
         return emptyList();
     }
 
+    /**
+     * <p>Gives some objects that are "smaller" than a given "larger" object,
+     * producing each one only when the shrinking process asks for it.</p>
+     *
+     * <p>Unless overridden, a generator will produce the values that
+     * {@link #doShrink(SourceOfRandomness, Object)} does, in the same order.
+     * Generators that can offer many "smaller" values, such as those of
+     * collections, should override this method and
+     * {@link #doShrink(SourceOfRandomness, Object)} to agree with each
+     * other.</p>
+     *
+     * @param random source of randomness to use in shrinking, if desired
+     * @param larger the larger object
+     * @return objects that are "smaller" than the larger object
+     */
+    public Stream<T> doShrinkLazily(SourceOfRandomness random, T larger) {
+        return doShrink(random, larger).stream();
+    }
+
     /**
      * <p>Gives a hint to the shrinking process as to the magnitude of the given
      * value. The shrinking process will prefer trying values of greater
@@ -167,6 +209,74 @@ public abstract class Generator<T> implements Gen<T>, Shrink<T> {
         return ONE;
     }
 
+    /**
+     * <p>Gives the same hint as {@link #magnitude(Object)}, as a
+     * {@code double}. Generators of primitive values should override this
+     * to compute the magnitude without making a {@link BigDecimal}. If not
+     * overridden, this implementation converts the result of
+     * {@link #magnitude(Object)}.</p>
+     *
+     * @see #magnitude(Object)
+     * @param value the value to assess
+     * @return a measure of the given value's magnitude
+     */
+    public double doubleMagnitude(Object value) {
+        return magnitude(value).doubleValue();
+    }
+
+    /**
+     * <p>Tells whether this generator can {@linkplain #enumerate(int)
+     * enumerate} the values it produces, smallest first. In
+     * {@link com.pholser.junit.quickcheck.Mode#EXHAUSTIVE} mode, the values of
+     * a property parameter whose generator can enumerate its values are the
+     * smallest ones, instead of randomly generated ones. Generators should
+     * enumerate only when configured to, say with a range, so that
+     * properties over their whole vast domains keep sampling at random.</p>
+     *
+     * <p>If not overridden, this implementation returns {@code false}.</p>
+     *
+     * @return whether this generator can enumerate its values
+     */
+    public boolean canEnumerate() {
+        return false;
+    }
+
+    /**
+     * <p>Gives every value of the given size that this generator can
+     * produce, respecting its configuration, without duplicates. What the
+     * size of a value is depends on the generator, but the simplest values
+     * should have size zero, and there should be finitely many values of
+     * any given size. A generator of containers might take the size of a
+     * container to be the number of its elements plus the sizes of those
+     * elements.</p>
+     *
+     * <p>This is called only if {@link #canEnumerate()} is {@code true}. If
+     * not overridden, this implementation gives no values.</p>
+     *
+     * @param size a non-negative size
+     * @return the values of that size
+     */
+    public Stream<T> enumerateOfSize(int size) {
+        return Stream.empty();
+    }
+
+    /**
+     * <p>Gives every value up to the given size that this generator can
+     * produce, in order of {@linkplain #enumerateOfSize(int) size}, without
+     * duplicates. Values are produced lazily, so that limiting the stream
+     * gives the smallest values.</p>
+     *
+     * <p>This is called only if {@link #canEnumerate()} is {@code true}.</p>
+     *
+     * @param maxSize the size of the largest values to give
+     * @return the values up to that size
+     */
+    public Stream<T> enumerate(int maxSize) {
+        return flatMapLazily(
+            IntStream.rangeClosed(0, maxSize).boxed(),
+            this::enumerateOfSize);
+    }
+
     /**
      * <p>Attempts to "narrow" the given object to the type this generator
      * produces.</p>
@@ -32,12 +32,12 @@ import static java.lang.reflect.Proxy.newProxyInstance;
 import com.pholser.junit.quickcheck.internal.DefaultMethodHandleMaker;
 import com.pholser.junit.quickcheck.internal.GeometricDistribution;
 import com.pholser.junit.quickcheck.internal.generator.SimpleGenerationStatus;
+import com.pholser.junit.quickcheck.random.LinearCongruentialRandom;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 import java.lang.invoke.MethodHandle;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.util.Arrays;
-import java.util.Random;
 
 /**
  * Helper class for creating instances of "functional interfaces".
@@ -122,7 +122,8 @@ public final class Lambdas {
             if (method.isDefault())
                 return handleDefaultMethod(proxy, method, args);
 
-            SourceOfRandomness source = new SourceOfRandomness(new Random());
+            SourceOfRandomness source =
+                new SourceOfRandomness(new LinearCongruentialRandom(0));
             source.setSeed(Arrays.hashCode(args));
             GenerationStatus status =
                 new SimpleGenerationStatus(
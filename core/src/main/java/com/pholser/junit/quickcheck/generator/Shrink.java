@@ -27,6 +27,7 @@ package com.pholser.junit.quickcheck.generator;
 
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Represents a strategy for producing objects "smaller than" a given object.
@@ -43,4 +44,22 @@ public interface Shrink<T> {
      * @return objects that are "smaller" than the larger object
      */
     List<T> shrink(SourceOfRandomness random, Object larger);
+
+    /**
+     * <p>Gives some objects that are "smaller" than a given object, producing
+     * each one only when it is asked for. The shrinking process usually
+     * settles on one of the first few objects offered, so strategies that can
+     * offer many objects should produce them on demand rather than all at
+     * once.</p>
+     *
+     * <p>By default, gives the objects that
+     * {@link #shrink(SourceOfRandomness, Object)} does, in the same order.</p>
+     *
+     * @param random source of randomness to use in shrinking, if desired
+     * @param larger the larger object
+     * @return objects that are "smaller" than the larger object
+     */
+    default Stream<T> shrinkLazily(SourceOfRandomness random, Object larger) {
+        return shrink(random, larger).stream();
+    }
 }
@@ -0,0 +1,131 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2020 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.hook;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
+
+import com.pholser.junit.quickcheck.CounterexampleStore;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>Counterexample store that keeps the counterexamples of each property in
+ * a file of its own, one per line. The file for property
+ * {@code com.example.Props#holds} is {@code com.example.Props/holds} under
+ * the store's directory.</p>
+ *
+ * <p>Several properties can share a store, but the store is not meant to be
+ * written to by concurrent runs of the same property.</p>
+ */
+public class DirectoryCounterexampleStore implements CounterexampleStore {
+    /**
+     * Directory used by the no-arg constructor, relative to the working
+     * directory.
+     */
+    public static final Path DEFAULT_DIRECTORY =
+        Paths.get(".junit-quickcheck", "counterexamples");
+
+    private final Path directory;
+
+    public DirectoryCounterexampleStore() {
+        this(DEFAULT_DIRECTORY);
+    }
+
+    /**
+     * @param directory where to keep counterexamples; created on demand
+     */
+    public DirectoryCounterexampleStore(Path directory) {
+        this.directory = directory;
+    }
+
+    @Override public synchronized List<String> load(String property) {
+        Path file = fileOf(property);
+        if (!Files.exists(file))
+            return new ArrayList<>();
+
+        try {
+            return Files.readAllLines(file, UTF_8).stream()
+                .map(String::trim)
+                .filter(line -> !line.isEmpty())
+                .collect(toList());
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override public synchronized void save(
+        String property,
+        String counterexample) {
+
+        List<String> counterexamples = load(property);
+        if (!counterexamples.contains(counterexample)) {
+            counterexamples.add(counterexample);
+            write(property, counterexamples);
+        }
+    }
+
+    @Override public synchronized void delete(
+        String property,
+        String counterexample) {
+
+        List<String> counterexamples = load(property);
+        if (counterexamples.remove(counterexample))
+            write(property, counterexamples);
+    }
+
+    private void write(String property, List<String> counterexamples) {
+        Path file = fileOf(property);
+
+        try {
+            if (counterexamples.isEmpty()) {
+                Files.deleteIfExists(file);
+            } else {
+                Files.createDirectories(directoryOf(property));
+                Files.write(file, counterexamples, UTF_8);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private Path fileOf(String property) {
+        return directoryOf(property)
+            .resolve(property.substring(property.lastIndexOf('#') + 1));
+    }
+
+    private Path directoryOf(String property) {
+        int separator = property.lastIndexOf('#');
+        return separator < 0
+            ? directory
+            : directory.resolve(property.substring(0, separator));
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2020 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/*
+ * Enumerates the cartesian product of tables of values in mixed radix, the
+ * first table varying fastest. Each spliterator covers a range of indices
+ * into the product, and splits by halving that range.
+ */
+public class CartesianSpliterator<T> implements Spliterator<List<T>> {
+    private final Object[][] tables;
+    private final int[] digits;
+    private final Object[] tuple;
+    private final long fence;
+
+    private long origin;
+
+    public CartesianSpliterator(List<? extends List<? extends T>> tables) {
+        this(
+            tables.stream().map(List::toArray).toArray(Object[][]::new),
+            0,
+            size(tables));
+    }
+
+    private CartesianSpliterator(Object[][] tables, long origin, long fence) {
+        this.tables = tables;
+        this.digits = new int[tables.length];
+        this.tuple = new Object[tables.length];
+        this.fence = fence;
+
+        moveTo(origin);
+    }
+
+    @Override public boolean tryAdvance(Consumer<? super List<T>> action) {
+        if (origin >= fence)
+            return false;
+
+        action.accept(current());
+        advance();
+        return true;
+    }
+
+    @Override public void forEachRemaining(
+        Consumer<? super List<T>> action) {
+
+        while (origin < fence) {
+            action.accept(current());
+            advance();
+        }
+    }
+
+    @Override public Spliterator<List<T>> trySplit() {
+        long middle = origin + (fence - origin) / 2;
+        if (middle == origin)
+            return null;
+
+        Spliterator<List<T>> prefix =
+            new CartesianSpliterator<>(tables, origin, middle);
+        moveTo(middle);
+        return prefix;
+    }
+
+    @Override public long estimateSize() {
+        return fence - origin;
+    }
+
+    @Override public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+    }
+
+    private static long size(List<? extends List<?>> tables) {
+        if (tables.isEmpty())
+            return 0;
+
+        long size = 1;
+        try {
+            for (List<?> each : tables)
+                size = Math.multiplyExact(size, (long) each.size());
+        } catch (ArithmeticException ex) {
+            throw new IllegalArgumentException(
+                "Cartesian product of " + tables.size()
+                    + " tables has more than " + Long.MAX_VALUE + " tuples",
+                ex);
+        }
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<T> current() {
+        return (List<T>) Arrays.asList(tuple.clone());
+    }
+
+    private void moveTo(long index) {
+        origin = index;
+        if (origin >= fence)
+            return;
+
+        long n = index;
+        for (int i = 0; i < tables.length; ++i) {
+            digits[i] = (int) (n % tables[i].length);
+            tuple[i] = tables[i][digits[i]];
+            n /= tables[i].length;
+        }
+    }
+
+    /* Increments the digits with carry, rewriting only those slots of the
+       tuple buffer whose digits change.
+     */
+    private void advance() {
+        ++origin;
+        for (int i = 0; i < tables.length; ++i) {
+            if (++digits[i] < tables[i].length) {
+                tuple[i] = tables[i][digits[i]];
+                return;
+            }
+
+            digits[i] = 0;
+            tuple[i] = tables[i][0];
+        }
+    }
+}
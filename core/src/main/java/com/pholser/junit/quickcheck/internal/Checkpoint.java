@@ -0,0 +1,157 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2020 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+public class Checkpoint {
+    private static final String CONFIGURATION = "configuration";
+    private static final String SEED = "seed";
+    private static final String NEXT = "next";
+
+    private final Path file;
+    private final String configuration;
+    private final long interval;
+
+    private long savedAt;
+
+    public Checkpoint(Path file, String configuration, long interval) {
+        this.file = file;
+        this.configuration = configuration;
+        this.interval = interval;
+        this.savedAt = System.currentTimeMillis();
+    }
+
+    /*
+     * Gives the position saved by an earlier run with the same configuration,
+     * or null if there is none.
+     */
+    public Position load() {
+        if (!Files.exists(file))
+            return null;
+
+        Properties saved = new Properties();
+        try {
+            saved.load(new ByteArrayInputStream(Files.readAllBytes(file)));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        if (!configuration.equals(saved.getProperty(CONFIGURATION)))
+            return null;
+
+        try {
+            Position position =
+                new Position(
+                    Long.parseLong(saved.getProperty(SEED)),
+                    Integer.parseInt(saved.getProperty(NEXT)));
+            return position.next() < 0 ? null : position;
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+
+    /*
+     * Saves the position if the interval has elapsed since it was last saved.
+     */
+    public void reached(long seed, int next) {
+        if (System.currentTimeMillis() - savedAt >= interval)
+            save(seed, next);
+    }
+
+    /*
+     * Writes the position to a sibling file first and then moves it over the
+     * checkpoint, so that a run killed mid-write leaves the previous
+     * checkpoint intact rather than a truncated one.
+     */
+    public void save(long seed, int next) {
+        Properties saved = new Properties();
+        saved.setProperty(CONFIGURATION, configuration);
+        saved.setProperty(SEED, String.valueOf(seed));
+        saved.setProperty(NEXT, String.valueOf(next));
+
+        Path target = file.toAbsolutePath();
+        Path directory = target.getParent();
+        Path name = target.getFileName();
+        if (directory == null || name == null)
+            throw new IllegalStateException(
+                "Cannot save a checkpoint to " + file);
+
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            saved.store(bytes, null);
+
+            Files.createDirectories(directory);
+            Path temp =
+                Files.createTempFile(directory, name.toString(), ".tmp");
+            try {
+                Files.write(temp, bytes.toByteArray());
+                Files.move(temp, file, ATOMIC_MOVE, REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        savedAt = System.currentTimeMillis();
+    }
+
+    public void clear() {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public static final class Position {
+        private final long seed;
+        private final int next;
+
+        Position(long seed, int next) {
+            this.seed = seed;
+            this.next = next;
+        }
+
+        public long seed() {
+            return seed;
+        }
+
+        public int next() {
+            return next;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2020 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal;
+
+import static com.pholser.junit.quickcheck.internal.DeltaDebugging.retain;
+import static com.pholser.junit.quickcheck.internal.DeltaDebugging.retainedLength;
+import static com.pholser.junit.quickcheck.internal.DeltaDebugging.retainedRanges;
+import static com.pholser.junit.quickcheck.internal.Sequences.flatMapLazily;
+
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+public final class ChoiceSequences {
+    private ChoiceSequences() {
+        throw new UnsupportedOperationException();
+    }
+
+    /*
+     * Gives sequences of choices that might replay to a simpler value than
+     * the given sequence does: first the sequences that ddmin would try,
+     * then the sequence with each choice in turn made smaller. Choices are
+     * consumed from their high bits, so taking a fraction off a choice takes
+     * about the same fraction off the value drawn from it.
+     */
+    public static Stream<long[]> shrinks(long[] choices) {
+        return Stream.concat(
+            retainedRanges(choices.length)
+                .map(r -> retain(choices, r, new long[retainedLength(r)])),
+            flatMapLazily(
+                IntStream.range(0, choices.length).boxed(),
+                i -> reductions(choices[i])
+                    .mapToObj(c -> replace(choices, i, c))));
+    }
+
+    /*
+     * Shorter sequences are simpler; sequences of equal length are compared
+     * choice by choice, as unsigned values.
+     */
+    public static boolean simpler(long[] candidate, long[] current) {
+        if (candidate.length != current.length)
+            return candidate.length < current.length;
+
+        for (int i = 0; i < candidate.length; ++i) {
+            int comparison = Long.compareUnsigned(candidate[i], current[i]);
+            if (comparison != 0)
+                return comparison < 0;
+        }
+        return false;
+    }
+
+    /*
+     * Zero, then the choice less ever smaller fractions of itself: one half,
+     * one quarter, and so on, finishing with one less than the choice.
+     */
+    static LongStream reductions(long choice) {
+        return LongStream.concat(
+            LongStream.of(0),
+            LongStream.concat(
+                IntStream.range(1, Long.SIZE)
+                    .mapToLong(k -> choice - (choice >>> k)),
+                LongStream.of(choice - 1)))
+            .filter(c -> Long.compareUnsigned(c, choice) < 0)
+            .distinct();
+    }
+
+    private static long[] replace(long[] choices, int index, long choice) {
+        long[] replaced = choices.clone();
+        replaced[index] = choice;
+        return replaced;
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2020 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal;
+
+import static com.pholser.junit.quickcheck.internal.Sequences.flatMapLazily;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+public final class DeltaDebugging {
+    private static final int[] NOTHING = new int[0];
+
+    private DeltaDebugging() {
+        throw new UnsupportedOperationException();
+    }
+
+    /*
+     * Gives the parts of a sequence of the given length that ddmin would try
+     * in turn, as ascending [from, to) index pairs of the items to retain.
+     * The sequence is split into two, four, eight... chunks of nearly equal
+     * length and finally into single items; at each granularity, everything
+     * but each chunk is tried, then each chunk by itself. A single item is
+     * reduced to nothing.
+     *
+     * Each granularity refines the one before it, so the only parts that
+     * can repeat are those whose chunks were not split further; they are
+     * tried only at the coarser granularity.
+     */
+    public static Stream<int[]> retainedRanges(int length) {
+        if (length == 0)
+            return Stream.empty();
+        if (length == 1)
+            return Stream.of(NOTHING);
+
+        return flatMapLazily(
+            granularities(length),
+            g -> {
+                if (g == 2)
+                    return candidates(length, g);
+
+                Set<List<Integer>> tried =
+                    candidates(length, Integer.highestOneBit(g - 1))
+                        .map(DeltaDebugging::key)
+                        .collect(toSet());
+                return candidates(length, g)
+                    .filter(r -> !tried.contains(key(r)));
+            });
+    }
+
+    public static int retainedLength(int[] ranges) {
+        int retained = 0;
+        for (int i = 0; i < ranges.length; i += 2)
+            retained += ranges[i + 1] - ranges[i];
+        return retained;
+    }
+
+    /*
+     * Copies the given ranges of an array, one after another, into another
+     * array of the same component type and of their total length.
+     */
+    public static <A> A retain(Object items, int[] ranges, A smaller) {
+        for (int i = 0, at = 0; i < ranges.length; i += 2) {
+            int length = ranges[i + 1] - ranges[i];
+            System.arraycopy(items, ranges[i], smaller, at, length);
+            at += length;
+        }
+        return smaller;
+    }
+
+    private static Stream<Integer> granularities(int length) {
+        int count = Integer.SIZE - Integer.numberOfLeadingZeros(length - 1);
+        return Stream.iterate(2, g -> g > length / 2 ? length : g * 2)
+            .limit(count);
+    }
+
+    private static Stream<int[]> candidates(int length, int granularity) {
+        return Stream.concat(
+            IntStream.range(0, granularity == 2 ? 0 : granularity)
+                .mapToObj(i -> complement(length, granularity, i)),
+            IntStream.range(0, granularity)
+                .mapToObj(i -> subset(length, granularity, i)));
+    }
+
+    private static List<Integer> key(int[] ranges) {
+        return IntStream.of(ranges).boxed().collect(toList());
+    }
+
+    private static int[] subset(int length, int granularity, int chunk) {
+        return new int[] {
+            bound(length, granularity, chunk),
+            bound(length, granularity, chunk + 1)
+        };
+    }
+
+    private static int[] complement(int length, int granularity, int chunk) {
+        int from = bound(length, granularity, chunk);
+        int to = bound(length, granularity, chunk + 1);
+
+        if (from == 0)
+            return new int[] { to, length };
+        if (to == length)
+            return new int[] { 0, from };
+        return new int[] { 0, from, to, length };
+    }
+
+    private static int bound(int length, int granularity, int chunk) {
+        return (int) ((long) chunk * length / granularity);
+    }
+}
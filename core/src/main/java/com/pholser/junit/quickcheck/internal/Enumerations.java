@@ -0,0 +1,149 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2020 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal;
+
+import static com.pholser.junit.quickcheck.internal.Sequences.flatMapLazily;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
+
+import java.util.AbstractMap.SimpleEntry;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/*
+ * Helpers for enumerating the values of containers, smallest first. The size
+ * of a sequence is the number of its items plus the sum of their sizes, so
+ * that there are finitely many sequences of any size whenever there are
+ * finitely many items of any size.
+ */
+public final class Enumerations {
+    private Enumerations() {
+        throw new UnsupportedOperationException();
+    }
+
+    public static <T> Stream<List<T>> sequencesOfSize(
+        int size,
+        int minLength,
+        int maxLength,
+        IntFunction<? extends Stream<? extends T>> itemsOfSize) {
+
+        return sequences(
+            size,
+            minLength,
+            maxLength,
+            itemsOfSize,
+            null,
+            emptySet());
+    }
+
+    /*
+     * Gives only the sequences whose items have distinct keys. Items are
+     * ruled out as soon as their key is taken, rather than after the fact,
+     * so that items from small domains do not make the number of
+     * candidate sequences explode.
+     */
+    public static <T> Stream<List<T>> distinctSequencesOfSize(
+        int size,
+        int minLength,
+        int maxLength,
+        IntFunction<? extends Stream<? extends T>> itemsOfSize,
+        Function<? super T, ?> key) {
+
+        return sequences(
+            size,
+            minLength,
+            maxLength,
+            itemsOfSize,
+            key,
+            emptySet());
+    }
+
+    public static <K, V> Stream<Entry<K, V>> pairsOfSize(
+        int size,
+        IntFunction<? extends Stream<? extends K>> keysOfSize,
+        IntFunction<? extends Stream<? extends V>> valuesOfSize) {
+
+        return flatMapLazily(
+            IntStream.rangeClosed(0, size).boxed(),
+            keySize -> flatMapLazily(
+                keysOfSize.apply(keySize),
+                k -> valuesOfSize.apply(size - keySize)
+                    .map(v -> new SimpleEntry<K, V>(k, v))));
+    }
+
+    private static <T> Stream<List<T>> sequences(
+        int size,
+        int minLength,
+        int maxLength,
+        IntFunction<? extends Stream<? extends T>> itemsOfSize,
+        Function<? super T, ?> key,
+        Set<Object> taken) {
+
+        if (size == 0) {
+            return minLength <= 0
+                ? Stream.<List<T>> of(emptyList())
+                : Stream.empty();
+        }
+
+        // Every item costs at least one
+        if (maxLength <= 0 || size < minLength)
+            return Stream.empty();
+
+        return flatMapLazily(
+            IntStream.range(0, size).boxed(),
+            first -> flatMapLazily(
+                itemsOfSize.apply(first)
+                    .filter(i -> key == null || !taken.contains(key.apply(i))),
+                item -> sequences(
+                    size - 1 - first,
+                    minLength - 1,
+                    maxLength - 1,
+                    itemsOfSize,
+                    key,
+                    key == null ? taken : with(taken, key.apply(item)))
+                    .map(rest -> prepend(item, rest))));
+    }
+
+    private static Set<Object> with(Set<Object> taken, Object key) {
+        Set<Object> result = new HashSet<>(taken);
+        result.add(key);
+        return result;
+    }
+
+    private static <T> List<T> prepend(T item, List<T> rest) {
+        List<T> result = new ArrayList<>(rest.size() + 1);
+        result.add(item);
+        result.addAll(rest);
+        return result;
+    }
+}
@@ -25,83 +25,47 @@
 
 package com.pholser.junit.quickcheck.internal;
 
-import static java.util.Collections.emptyList;
-import static java.util.Collections.singletonList;
-import static java.util.stream.Collectors.toList;
+import static com.pholser.junit.quickcheck.internal.DeltaDebugging.retainedLength;
+import static com.pholser.junit.quickcheck.internal.DeltaDebugging.retainedRanges;
+import static com.pholser.junit.quickcheck.internal.Sequences.flatMapLazily;
 
 import com.pholser.junit.quickcheck.generator.Shrink;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 public final class Lists {
     private Lists() {
         throw new UnsupportedOperationException();
     }
 
-    public static <T> List<List<T>> removeFrom(List<T> target, int howMany) {
-        if (howMany < 0) {
-            throw new IllegalArgumentException(
-                "Can't remove " + howMany + " elements from a list");
-        }
-        if (howMany == 0)
-            return singletonList(target);
-        if (howMany > target.size())
-            return emptyList();
-
-        List<T> left = target.subList(0, howMany);
-        List<T> right = target.subList(howMany, target.size());
-        if (right.isEmpty())
-            return singletonList(emptyList());
+    public static <T> Stream<List<T>> reductions(List<T> target) {
+        return retainedRanges(target.size()).map(r -> retain(target, r));
+    }
 
-        List<List<T>> removals = new ArrayList<>();
-        removals.add(right);
-        removals.addAll(removeFrom(right, howMany)
-            .stream()
-            .map(r -> {
-                List<T> items = new ArrayList<>(left);
-                items.addAll(r);
-                return items;
-            })
-            .collect(toList()));
-        return removals;
+    public static <T> List<T> retain(List<T> target, int[] ranges) {
+        List<T> items = new ArrayList<>(retainedLength(ranges));
+        for (int i = 0; i < ranges.length; i += 2)
+            items.addAll(target.subList(ranges[i], ranges[i + 1]));
+        return items;
     }
 
-    public static <T> List<List<T>> shrinksOfOneItem(
+    public static <T> Stream<List<T>> shrinksOfOneItemLazily(
         SourceOfRandomness random,
         List<T> target,
         Shrink<T> shrink) {
 
-        if (target.isEmpty())
-            return new ArrayList<>();
-
-        T head = target.get(0);
-        List<T> tail = target.subList(1, target.size());
-
-        List<List<T>> shrinks = new ArrayList<>();
-        shrinks.addAll(
-            shrink.shrink(random, head)
-                .stream()
-                .map(i -> {
-                    List<T> items = new ArrayList<>();
-                    items.add(i);
-                    items.addAll(tail);
-                    return items;
-                })
-                .collect(toList()));
-        shrinks.addAll(
-            shrinksOfOneItem(random, tail, shrink)
-                .stream()
-                .map(s -> {
-                    List<T> items = new ArrayList<>();
-                    items.add(head);
-                    items.addAll(s);
+        return flatMapLazily(
+            IntStream.range(0, target.size()).boxed(),
+            i -> shrink.shrinkLazily(random, target.get(i))
+                .map(each -> {
+                    List<T> items = new ArrayList<>(target);
+                    items.set(i, each);
                     return items;
-                })
-                .collect(toList()));
-
-        return shrinks;
+                }));
     }
 
     public static <T> boolean isDistinct(List<T> target) {
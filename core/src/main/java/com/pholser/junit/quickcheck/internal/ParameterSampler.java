@@ -34,6 +34,10 @@ import java.util.stream.Stream;
 public interface ParameterSampler {
     int sizeFactor(ParameterTypeContext p);
 
+    default int sizeFactor(ParameterTypeContext p, Generator<?> generator) {
+        return sizeFactor(p);
+    }
+
     Stream<List<SeededValue>> sample(
         List<PropertyParameterGenerationContext> parameters);
 
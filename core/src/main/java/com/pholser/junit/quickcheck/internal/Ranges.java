@@ -81,47 +81,87 @@ public final class Ranges {
     public static long choose(SourceOfRandomness random, long min, long max) {
         checkRange(INTEGRAL, min, max);
 
-        /* There are some edges cases with integer overflows, for instance,
-           when (max - min) exceeds Long.MAX_VALUE. These cases should be
-           relatively rare under the assumption that choosing
-           [Long.MIN_VALUE, Long.MAX_VALUE] can be simplified to choosing any
-           random long. Thus, the optimization here only deals with the common
-           situation that no overflows are possible (maybe the heuristic to
-           detect that could be improved).
-         */
-        boolean noOverflowIssues =
-            max < ((long) 1 << 62) && min > -(((long) 1) << 62);
-
-        if (noOverflowIssues) {
-            // fast path: use long computations
-            long range = (max - min) + 1;
-            long mask = findNextPowerOfTwoLong(range) - 1;
-
-            // loop to avoid distribution bias (as would be the case
-            // with modulo division)
-            long generated;
-            do {
-                generated = Math.abs(random.nextLong()) & mask;
-            } while (generated >= range);
-
-            return generated + min;
+        // the number of values in [min, max], as an unsigned long; zero when
+        // the interval covers every long
+        long range = max - min + 1;
+        return range == 0
+            ? random.nextLong()
+            : chooseBelow(random, range) + min;
+    }
+
+    public static void choose(
+        SourceOfRandomness random,
+        int[] into,
+        int min,
+        int max) {
+
+        long range = ((long) max - min) + 1;
+        long threshold = Long.remainderUnsigned(-range, range);
+        for (int i = 0; i < into.length; ++i)
+            into[i] = (int) (chooseBelow(random, range, threshold) + min);
+    }
+
+    public static void choose(
+        SourceOfRandomness random,
+        long[] into,
+        long min,
+        long max) {
+
+        long range = max - min + 1;
+        if (range == 0) {
+            for (int i = 0; i < into.length; ++i)
+                into[i] = random.nextLong();
         } else {
-            // slow path: fall back to BigInteger to avoid any surprises
-            return choose(
-                random,
-                BigInteger.valueOf(min),
-                BigInteger.valueOf(max))
-                .longValue();
+            long threshold = Long.remainderUnsigned(-range, range);
+            for (int i = 0; i < into.length; ++i)
+                into[i] = chooseBelow(random, range, threshold) + min;
+        }
+    }
+
+    /* Lemire's "nearly divisionless" method: the high 64 bits of the 128-bit
+       product of a random long and the range are uniform in [0, range) once
+       products whose low 64 bits fall under 2^64 mod range are rejected.
+       That remainder, the only division, is needed only when the low bits
+       are under the range, which is rare unless the range is huge.
+     */
+    private static long chooseBelow(SourceOfRandomness random, long range) {
+        long generated = random.nextLong();
+        long low = generated * range;
+
+        if (Long.compareUnsigned(low, range) < 0) {
+            long threshold = Long.remainderUnsigned(-range, range);
+            while (Long.compareUnsigned(low, threshold) < 0) {
+                generated = random.nextLong();
+                low = generated * range;
+            }
         }
+
+        return multiplyHighUnsigned(generated, range);
     }
 
-    static long findNextPowerOfTwoLong(long positiveLong) {
-        return isPowerOfTwoLong(positiveLong)
-            ? positiveLong
-            : ((long) 1) << (64 - Long.numberOfLeadingZeros(positiveLong));
+    private static long chooseBelow(
+        SourceOfRandomness random,
+        long range,
+        long threshold) {
+
+        long generated;
+        do {
+            generated = random.nextLong();
+        } while (Long.compareUnsigned(generated * range, threshold) < 0);
+
+        return multiplyHighUnsigned(generated, range);
     }
 
-    private static boolean isPowerOfTwoLong(long positiveLong) {
-        return (positiveLong & (positiveLong - 1)) == 0;
+    static long multiplyHighUnsigned(long x, long y) {
+        long xLow = x & 0xFFFFFFFFL;
+        long xHigh = x >>> 32;
+        long yLow = y & 0xFFFFFFFFL;
+        long yHigh = y >>> 32;
+
+        long lowProduct = xLow * yLow;
+        long middle = xHigh * yLow + (lowProduct >>> 32);
+        long middleLow = xLow * yHigh + (middle & 0xFFFFFFFFL);
+
+        return xHigh * yHigh + (middle >>> 32) + (middleLow >>> 32);
     }
 }
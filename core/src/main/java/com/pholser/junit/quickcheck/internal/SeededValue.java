@@ -31,11 +31,13 @@ public final class SeededValue {
     private final PropertyParameterGenerationContext p;
     private final Object value;
     private final long seed;
+    private final long[] choices;
 
     public SeededValue(PropertyParameterGenerationContext p) {
         this.p = p;
         this.value = p.generate();
         this.seed = p.effectiveSeed();
+        this.choices = p.choices();
     }
 
     public PropertyParameterGenerationContext parameter() {
@@ -50,6 +52,10 @@ public final class SeededValue {
         return seed;
     }
 
+    public long[] choices() {
+        return choices == null ? null : choices.clone();
+    }
+
     @Override public String toString() {
         return String.format("%s = [%s], seed = %d", p.name(), value, seed);
     }
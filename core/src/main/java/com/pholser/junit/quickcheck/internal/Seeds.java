@@ -0,0 +1,65 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2020 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal;
+
+public final class Seeds {
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private Seeds() {
+        throw new UnsupportedOperationException();
+    }
+
+    public static long trialSeed(long base, int trial) {
+        return trial == 0 ? base : mix(base + trial * GOLDEN_GAMMA);
+    }
+
+    public static long parameterSeed(long base, int parameter) {
+        return mix(base ^ mix((parameter + 1) * GOLDEN_GAMMA));
+    }
+
+    public static long nameSeed(String name) {
+        long hash = 0;
+        for (int i = 0; i < name.length(); ++i)
+            hash = 31 * hash + name.charAt(i);
+
+        return mix(hash);
+    }
+
+    public static long repositorySeed(long base) {
+        return mix(base);
+    }
+
+    /*
+     * The finalizer of SplitMix64, which spreads the bits of its input over
+     * all of its output; the one copy that seeds, the SplitMix64 and
+     * xoshiro256** engines, and tuple fingerprints all use.
+     */
+    public static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -26,11 +26,22 @@
 package com.pholser.junit.quickcheck.internal;
 
 import static java.math.RoundingMode.HALF_UP;
+import static java.util.Spliterator.ORDERED;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.Spliterators.AbstractSpliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.DoubleStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public final class Sequences {
     private Sequences() {
@@ -51,8 +62,59 @@ public final class Sequences {
         return () -> new BigDecimalHalvingIterator(start, max);
     }
 
-    public static Iterable<Integer> halving(int start) {
-        return () -> new IntegerHalvingIterator(start);
+    public static LongStream halvingLong(long max, long start) {
+        return StreamSupport.longStream(
+            Spliterators.spliteratorUnknownSize(
+                new LongHalvingIterator(start, max),
+                ORDERED),
+            false);
+    }
+
+    public static DoubleStream halvingDouble(double max, double start) {
+        return StreamSupport.doubleStream(
+            Spliterators.spliteratorUnknownSize(
+                new DoubleHalvingIterator(start, max),
+                ORDERED),
+            false);
+    }
+
+    public static <T, R> Stream<R> flatMapLazily(
+        Stream<T> items,
+        Function<? super T, ? extends Stream<? extends R>> mapper) {
+
+        return StreamSupport.stream(
+            new FlatteningSpliterator<>(items.iterator(), mapper),
+            false);
+    }
+
+    private static final class FlatteningSpliterator<T, R>
+        extends AbstractSpliterator<R> {
+
+        private final Iterator<T> items;
+        private final Function<? super T, ? extends Stream<? extends R>> mapper;
+
+        private Spliterator<? extends R> current;
+
+        FlatteningSpliterator(
+            Iterator<T> items,
+            Function<? super T, ? extends Stream<? extends R>> mapper) {
+
+            super(Long.MAX_VALUE, ORDERED);
+
+            this.items = items;
+            this.mapper = mapper;
+        }
+
+        @Override public boolean tryAdvance(Consumer<? super R> action) {
+            while (current == null || !current.tryAdvance(action)) {
+                if (!items.hasNext())
+                    return false;
+
+                current = mapper.apply(items.next()).spliterator();
+            }
+
+            return true;
+        }
     }
 
     private static final class BigIntegerHalvingIterator
@@ -121,13 +183,53 @@ public final class Sequences {
         }
     }
 
-    private static final class IntegerHalvingIterator
-        implements Iterator<Integer> {
+    private static final class LongHalvingIterator
+        implements PrimitiveIterator.OfLong {
+
+        private final long max;
+
+        private boolean done;
+        private long next;
+
+        LongHalvingIterator(long start, long max) {
+            this.max = max;
+            next = start;
+        }
+
+        @Override public boolean hasNext() {
+            return !done;
+        }
+
+        @Override public long nextLong() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+
+            next = peek();
+            done = next == peek();
+            return next;
+        }
+
+        /* Halves the distance to max, truncating toward next as
+           BigIntegerHalvingIterator does. The distance is taken as an
+           unsigned long so that it cannot overflow.
+         */
+        private long peek() {
+            return max >= next
+                ? next + ((max - next) >>> 1)
+                : next - ((next - max) >>> 1);
+        }
+    }
+
+    private static final class DoubleHalvingIterator
+        implements PrimitiveIterator.OfDouble {
+
+        private final double max;
 
         private boolean done;
-        private int next;
+        private double next;
 
-        IntegerHalvingIterator(int start) {
+        DoubleHalvingIterator(double start, double max) {
+            this.max = max;
             next = start;
         }
 
@@ -135,18 +237,17 @@ public final class Sequences {
             return !done;
         }
 
-        @Override public Integer next() {
+        @Override public double nextDouble() {
             if (!hasNext())
                 throw new NoSuchElementException();
 
-            int result = next;
             next = peek();
-            done = next == 0;
-            return result;
+            done = Double.compare(next, peek()) == 0;
+            return next;
         }
 
-        private int peek() {
-            return next / 2;
+        private double peek() {
+            return next + (max / 2 - next / 2);
         }
     }
 }
@@ -25,6 +25,9 @@
 
 package com.pholser.junit.quickcheck.internal;
 
+import static com.pholser.junit.quickcheck.internal.Reflection.instantiate;
+
+import com.pholser.junit.quickcheck.Fingerprint;
 import com.pholser.junit.quickcheck.MinimalCounterexampleHook;
 import com.pholser.junit.quickcheck.Property;
 
@@ -33,6 +36,9 @@ public class ShrinkControl {
     private final int maxShrinks;
     private final int maxShrinkDepth;
     private final int maxShrinkTime;
+    private final int shrinkParallelism;
+    private final int shrinkCacheSize;
+    private final Fingerprint fingerprint;
     private final MinimalCounterexampleHook onMinimalCounterexample;
 
     public ShrinkControl(Property marker)
@@ -42,6 +48,12 @@ public class ShrinkControl {
         this.maxShrinks = marker.maxShrinks();
         this.maxShrinkDepth = marker.maxShrinkDepth();
         this.maxShrinkTime = marker.maxShrinkTime();
+        this.shrinkParallelism = marker.shrinkParallelism();
+        this.shrinkCacheSize = marker.shrinkCacheSize();
+        this.fingerprint =
+            marker.shrinkFingerprint() == Fingerprint.class
+                ? null
+                : instantiate(marker.shrinkFingerprint());
         this.onMinimalCounterexample =
             marker.onMinimalCounterexample().newInstance();
     }
@@ -62,6 +74,18 @@ public class ShrinkControl {
         return maxShrinkTime;
     }
 
+    public int shrinkParallelism() {
+        return shrinkParallelism;
+    }
+
+    public int shrinkCacheSize() {
+        return shrinkCacheSize;
+    }
+
+    public Fingerprint fingerprint() {
+        return fingerprint;
+    }
+
     public MinimalCounterexampleHook onMinimalCounterexample() {
         return onMinimalCounterexample;
     }
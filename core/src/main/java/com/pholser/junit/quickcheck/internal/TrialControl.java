@@ -0,0 +1,425 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2020 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal;
+
+import static com.pholser.junit.quickcheck.Lifecycle.PER_PROPERTY;
+import static com.pholser.junit.quickcheck.Mode.SAMPLING;
+
+import static com.pholser.junit.quickcheck.internal.Reflection.instantiate;
+
+import com.pholser.junit.quickcheck.CounterexampleStore;
+import com.pholser.junit.quickcheck.Property;
+import com.pholser.junit.quickcheck.hook.DirectoryCounterexampleStore;
+import com.pholser.junit.quickcheck.hook.NilCounterexampleStore;
+import com.pholser.junit.quickcheck.random.LinearCongruentialRandom;
+import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+import com.pholser.junit.quickcheck.random.SplitMix64Random;
+import com.pholser.junit.quickcheck.random.Xoshiro256StarStarRandom;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class TrialControl {
+    public static final String PARALLELISM_PROPERTY =
+        "junit-quickcheck.parallelism";
+    public static final String REPLAY_PROPERTY = "junit-quickcheck.replay";
+    public static final String SEED_PROPERTY = "junit-quickcheck.seed";
+    public static final String SHARD_INDEX_PROPERTY =
+        "junit-quickcheck.shard.index";
+    public static final String SHARD_COUNT_PROPERTY =
+        "junit-quickcheck.shard.count";
+    public static final String RANDOM_PROPERTY = "junit-quickcheck.random";
+    public static final String COUNTEREXAMPLES_PROPERTY =
+        "junit-quickcheck.counterexamples";
+    public static final String CHECKPOINTS_PROPERTY =
+        "junit-quickcheck.checkpoints";
+    public static final String CHECKPOINT_INTERVAL_PROPERTY =
+        "junit-quickcheck.checkpoint.interval";
+
+    private final boolean sampling;
+    private final Class<? extends Random> randomType;
+    private final boolean recordsChoices;
+    private final CounterexampleStore counterexampleStore;
+    private final boolean replaying;
+    private final Checkpoint checkpoint;
+    private final int resumeFrom;
+    private final long seed;
+    private final int parallelism;
+    private final int firstTrial;
+    private final int stride;
+    private final int duration;
+    private final int minTrials;
+    private final int maxTrials;
+    private final long startedAt;
+
+    public TrialControl(Property marker, String propertyName) {
+        String replay = setting(REPLAY_PROPERTY);
+
+        this.sampling = marker.mode() == SAMPLING;
+        this.randomType = randomType(marker);
+        this.recordsChoices = marker.shrink() && marker.integratedShrinking();
+        this.counterexampleStore = counterexampleStore(marker);
+        this.replaying = sampling && replay != null;
+
+        if (replaying) {
+            this.checkpoint = null;
+            this.resumeFrom = 0;
+            this.seed = replaySeed(replay);
+            this.firstTrial = replayTrial(replay);
+            this.stride = 1;
+            this.parallelism = 1;
+            this.duration = 0;
+            this.minTrials = firstTrial + 1;
+            this.maxTrials = firstTrial + 1;
+        } else {
+            this.stride = intSetting(SHARD_COUNT_PROPERTY, 1);
+            this.firstTrial = intSetting(SHARD_INDEX_PROPERTY, 0);
+            if (stride <= 0 || firstTrial < 0 || firstTrial >= stride) {
+                throw new IllegalArgumentException(
+                    "Bad shard " + firstTrial + " of " + stride
+                        + " from " + SHARD_INDEX_PROPERTY
+                        + " and " + SHARD_COUNT_PROPERTY);
+            }
+
+            this.checkpoint =
+                sampling ? null : checkpoint(marker, propertyName);
+            Checkpoint.Position resumed =
+                checkpoint == null ? null : checkpoint.load();
+
+            String fixedSeed = setting(SEED_PROPERTY);
+            if (fixedSeed != null)
+                this.seed = longSetting(SEED_PROPERTY, fixedSeed);
+            else if (resumed != null)
+                this.seed = resumed.seed();
+            else if (stride > 1)
+                this.seed = Seeds.nameSeed(propertyName);
+            else
+                this.seed = ThreadLocalRandom.current().nextLong();
+
+            this.resumeFrom =
+                resumed != null && resumed.seed() == seed ? resumed.next() : 0;
+
+            this.parallelism =
+                marker.parallelism() > 0
+                    ? marker.parallelism()
+                    : defaultParallelism(marker);
+
+            if (!sampling) {
+                this.duration = 0;
+                this.minTrials = Integer.MAX_VALUE;
+                this.maxTrials = Integer.MAX_VALUE;
+            } else if (marker.duration() > 0) {
+                if (marker.minTrials() < 0
+                    || marker.minTrials() > marker.maxTrials()) {
+
+                    throw new IllegalArgumentException(
+                        "Bad trial bounds [" + marker.minTrials()
+                            + ", " + marker.maxTrials() + ']');
+                }
+
+                this.duration = marker.duration();
+                this.minTrials = marker.minTrials();
+                this.maxTrials = marker.maxTrials();
+            } else {
+                this.duration = 0;
+                this.minTrials = marker.trials();
+                this.maxTrials = marker.trials();
+            }
+        }
+
+        this.startedAt = System.currentTimeMillis();
+    }
+
+    private TrialControl(TrialControl original, String counterexample) {
+        this.sampling = true;
+        this.randomType = original.randomType;
+        this.recordsChoices = original.recordsChoices;
+        this.counterexampleStore = original.counterexampleStore;
+        this.replaying = true;
+        this.checkpoint = null;
+        this.resumeFrom = 0;
+        this.seed = replaySeed(counterexample);
+        this.firstTrial = replayTrial(counterexample);
+        this.stride = 1;
+        this.parallelism = 1;
+        this.duration = 0;
+        this.minTrials = firstTrial + 1;
+        this.maxTrials = firstTrial + 1;
+        this.startedAt = System.currentTimeMillis();
+    }
+
+    /**
+     * Gives control of a trial that failed in an earlier run.
+     *
+     * @param counterexample a trial in the form {@code <seed>:<trial>}
+     * @return control of only that trial
+     * @throws IllegalArgumentException if the counterexample is malformed
+     */
+    public TrialControl replaying(String counterexample) {
+        return new TrialControl(this, counterexample);
+    }
+
+    public long seed() {
+        return seed;
+    }
+
+    public SourceOfRandomness newRandom(long seed) {
+        SourceOfRandomness random =
+            new SourceOfRandomness(instantiate(randomType));
+        random.setSeed(seed);
+        return random;
+    }
+
+    public boolean recordsChoices() {
+        return recordsChoices;
+    }
+
+    public CounterexampleStore counterexampleStore() {
+        return counterexampleStore;
+    }
+
+    public boolean replaysCounterexamples() {
+        return sampling && !replaying;
+    }
+
+    public Checkpoint checkpoint() {
+        return checkpoint;
+    }
+
+    public int resumeFrom() {
+        return resumeFrom;
+    }
+
+    public int parallelism() {
+        return parallelism;
+    }
+
+    public boolean timeBudgeted() {
+        return duration > 0;
+    }
+
+    public boolean replayable() {
+        return sampling;
+    }
+
+    public boolean sharded() {
+        return stride > 1;
+    }
+
+    public int maxTrials() {
+        return maxTrials;
+    }
+
+    public int trial(int slot) {
+        return sampling ? firstTrial + slot * stride : slot;
+    }
+
+    public boolean covers(int trial) {
+        return trial >= firstTrial
+            && (trial - firstTrial) % stride == 0
+            && trial < maxTrials;
+    }
+
+    public boolean shouldVerify(int trial) {
+        return trial >= 0
+            && trial < maxTrials
+            && (trial < minTrials
+                || System.currentTimeMillis() - startedAt < duration);
+    }
+
+    public String counterexampleOf(int trial) {
+        return String.valueOf(seed) + ':' + trial;
+    }
+
+    public String replayOf(int trial) {
+        return "-D" + REPLAY_PROPERTY + '=' + counterexampleOf(trial);
+    }
+
+    public String shardOf() {
+        return "-D" + SHARD_INDEX_PROPERTY + '=' + firstTrial
+            + " -D" + SHARD_COUNT_PROPERTY + '=' + stride
+            + " -D" + SEED_PROPERTY + '=' + seed;
+    }
+
+    private static Class<? extends Random> randomType(Property marker) {
+        if (marker.random() != Random.class)
+            return marker.random();
+
+        String name = setting(RANDOM_PROPERTY);
+        if (name == null)
+            return LinearCongruentialRandom.class;
+
+        switch (name.trim()) {
+            case "jdk":
+                return LinearCongruentialRandom.class;
+            case "splitmix64":
+                return SplitMix64Random.class;
+            case "xoshiro256**":
+                return Xoshiro256StarStarRandom.class;
+            default:
+                try {
+                    return Class.forName(name.trim()).asSubclass(Random.class);
+                } catch (ClassNotFoundException | ClassCastException ex) {
+                    throw badSetting(RANDOM_PROPERTY, name, ex);
+                }
+        }
+    }
+
+    private static CounterexampleStore counterexampleStore(Property marker) {
+        if (marker.counterexampleStore() != CounterexampleStore.class)
+            return instantiate(marker.counterexampleStore());
+
+        String directory = setting(COUNTEREXAMPLES_PROPERTY);
+        return directory == null
+            ? new NilCounterexampleStore()
+            : new DirectoryCounterexampleStore(Paths.get(directory.trim()));
+    }
+
+    private Checkpoint checkpoint(Property marker, String propertyName) {
+        String directory = setting(CHECKPOINTS_PROPERTY);
+        if (directory == null)
+            return null;
+
+        int separator = propertyName.lastIndexOf('#');
+        Path file =
+            Paths.get(directory.trim())
+                .resolve(propertyName.substring(0, separator))
+                .resolve(propertyName.substring(separator + 1));
+        String configuration =
+            "trials=" + marker.trials()
+                + ",random=" + randomType.getName()
+                + ",shard=" + firstTrial + '/' + stride;
+        return new Checkpoint(
+            file,
+            configuration,
+            ensureNonNegative(
+                CHECKPOINT_INTERVAL_PROPERTY,
+                intSetting(CHECKPOINT_INTERVAL_PROPERTY, 10_000)));
+    }
+
+    private static long replaySeed(String replay) {
+        try {
+            return Long.parseLong(
+                replay.substring(0, replay.lastIndexOf(':')));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException ex) {
+            throw badReplay(replay, ex);
+        }
+    }
+
+    private static int replayTrial(String replay) {
+        int trial;
+        try {
+            trial =
+                Integer.parseInt(
+                    replay.substring(replay.lastIndexOf(':') + 1));
+        } catch (NumberFormatException ex) {
+            throw badReplay(replay, ex);
+        }
+        if (trial < 0)
+            throw badReplay(replay, null);
+
+        return trial;
+    }
+
+    private static String setting(String property) {
+        String value = System.getProperty(property);
+        return value != null
+            ? value
+            : System.getenv(
+                property.toUpperCase(Locale.ROOT)
+                    .replace('-', '_')
+                    .replace('.', '_'));
+    }
+
+    // A PER_PROPERTY instance is not to be shared across threads
+    private static int defaultParallelism(Property marker) {
+        return marker.lifecycle() == PER_PROPERTY
+            ? 1
+            : ensurePositive(
+                PARALLELISM_PROPERTY,
+                intSetting(PARALLELISM_PROPERTY, 1));
+    }
+
+    private static int intSetting(String property, int defaultValue) {
+        String value = setting(property);
+        if (value == null)
+            return defaultValue;
+
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException ex) {
+            throw badSetting(property, value, ex);
+        }
+    }
+
+    private static long longSetting(String property, String value) {
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException ex) {
+            throw badSetting(property, value, ex);
+        }
+    }
+
+    private static IllegalArgumentException badSetting(
+        String property,
+        String value,
+        Exception cause) {
+
+        return new IllegalArgumentException(
+            "Bad value " + value + " for " + property,
+            cause);
+    }
+
+    private static IllegalArgumentException badReplay(
+        String replay,
+        Exception cause) {
+
+        return badSetting(
+            REPLAY_PROPERTY,
+            replay + "; expected <seed>:<trial>",
+            cause);
+    }
+
+    private static int ensureNonNegative(String property, int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException(
+                "Negative value " + value + " for " + property);
+        }
+
+        return value;
+    }
+
+    private static int ensurePositive(String property, int value) {
+        if (value <= 0) {
+            throw new IllegalArgumentException(
+                "Non-positive value " + value + " for " + property);
+        }
+
+        return value;
+    }
+}
@@ -25,15 +25,14 @@
 
 package com.pholser.junit.quickcheck.internal.generator;
 
-import static com.pholser.junit.quickcheck.internal.Lists.removeFrom;
-import static com.pholser.junit.quickcheck.internal.Lists.shrinksOfOneItem;
+import static com.pholser.junit.quickcheck.internal.DeltaDebugging.retainedLength;
+import static com.pholser.junit.quickcheck.internal.DeltaDebugging.retainedRanges;
 import static com.pholser.junit.quickcheck.internal.Ranges.Type.INTEGRAL;
 import static com.pholser.junit.quickcheck.internal.Ranges.checkRange;
 import static com.pholser.junit.quickcheck.internal.Reflection.annotatedComponentTypes;
-import static com.pholser.junit.quickcheck.internal.Sequences.halving;
+import static com.pholser.junit.quickcheck.internal.Sequences.flatMapLazily;
 import static java.math.BigDecimal.ZERO;
 import static java.util.stream.Collectors.toList;
-import static java.util.stream.StreamSupport.stream;
 
 import com.pholser.junit.quickcheck.generator.Distinct;
 import com.pholser.junit.quickcheck.generator.GenerationStatus;
@@ -41,15 +40,15 @@ import com.pholser.junit.quickcheck.generator.Generator;
 import com.pholser.junit.quickcheck.generator.Generators;
 import com.pholser.junit.quickcheck.generator.Shrink;
 import com.pholser.junit.quickcheck.generator.Size;
-import com.pholser.junit.quickcheck.internal.Lists;
+import com.pholser.junit.quickcheck.internal.DeltaDebugging;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 import java.lang.reflect.AnnotatedType;
 import java.lang.reflect.Array;
 import java.math.BigDecimal;
-import java.util.ArrayList;
-import java.util.Collection;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -94,8 +93,27 @@ public class ArrayGenerator extends Generator<Object> {
         GenerationStatus status) {
 
         int length = length(random, status);
+        if (!distinct) {
+            Object primitives =
+                PrimitiveArrays.generate(
+                    componentType,
+                    component,
+                    length,
+                    random,
+                    status);
+            if (primitives != null)
+                return primitives;
+        }
+
         Object array = Array.newInstance(componentType, length);
 
+        if (!distinct && !componentType.isPrimitive()) {
+            Object[] elements = (Object[]) array;
+            for (int i = 0; i < length; ++i)
+                elements[i] = component.generate(random, status);
+            return array;
+        }
+
         Stream<?> items =
             Stream.generate(() -> component.generate(random, status))
                 .sequential();
@@ -119,29 +137,29 @@ public class ArrayGenerator extends Generator<Object> {
         SourceOfRandomness random,
         Object larger) {
 
-        int length = Array.getLength(larger);
-        List<Object> asList = new ArrayList<>();
-        for (int i = 0; i < length; ++i) {
-            asList.add(Array.get(larger, i));
-        }
+        return doShrinkLazily(random, larger).collect(toList());
+    }
 
-        List<Object> shrinks = new ArrayList<>(removals(asList));
+    @Override public Stream<Object> doShrinkLazily(
+        SourceOfRandomness random,
+        Object larger) {
 
         @SuppressWarnings("unchecked")
-        Stream<List<Object>> oneItemShrinks =
-            shrinksOfOneItem(random, asList, (Shrink<Object>) component)
-                .stream();
-        if (distinct) {
-            oneItemShrinks = oneItemShrinks.filter(Lists::isDistinct);
-        }
-
-        shrinks.addAll(
-            oneItemShrinks
-                .map(this::convert)
-                .filter(this::inLengthRange)
-                .collect(toList()));
+        Shrink<Object> shrink = (Shrink<Object>) component;
+        int length = Array.getLength(larger);
 
-        return shrinks;
+        Stream<Object> oneItemShrinks =
+            flatMapLazily(
+                IntStream.range(0, length).boxed(),
+                i -> shrink.shrinkLazily(random, Array.get(larger, i))
+                    .map(each -> {
+                        Object smaller = copyOf(larger, length);
+                        Array.set(smaller, i, each);
+                        return smaller;
+                    }))
+                .filter(s -> (!distinct || isDistinct(s)) && inLengthRange(s));
+
+        return Stream.concat(reductions(larger), oneItemShrinks);
     }
 
     @Override public void provide(Generators provided) {
@@ -183,20 +201,32 @@ public class ArrayGenerator extends Generator<Object> {
             || (length >= lengthRange.min() && length <= lengthRange.max());
     }
 
-    private List<Object> removals(List<?> items) {
-        return stream(halving(items.size()).spliterator(), false)
-            .map(i -> removeFrom(items, i))
-            .flatMap(Collection::stream)
-            .map(this::convert)
-            .filter(this::inLengthRange)
-            .collect(toList());
+    private Stream<Object> reductions(Object items) {
+        return retainedRanges(Array.getLength(items))
+            .map(r -> retain(items, r))
+            .filter(this::inLengthRange);
+    }
+
+    private Object retain(Object items, int[] ranges) {
+        return DeltaDebugging.retain(
+            items,
+            ranges,
+            Array.newInstance(componentType, retainedLength(ranges)));
     }
 
-    private Object convert(List<?> items) {
-        Object array = Array.newInstance(componentType, items.size());
-        for (int i = 0; i < items.size(); ++i) {
-            Array.set(array, i, items.get(i));
+    private Object copyOf(Object items, int length) {
+        Object copy = Array.newInstance(componentType, length);
+        System.arraycopy(items, 0, copy, 0, length);
+        return copy;
+    }
+
+    private static boolean isDistinct(Object items) {
+        int length = Array.getLength(items);
+        Set<Object> seen = new HashSet<>();
+        for (int i = 0; i < length; ++i) {
+            if (!seen.add(Array.get(items, i)))
+                return false;
         }
-        return array;
+        return true;
     }
 }
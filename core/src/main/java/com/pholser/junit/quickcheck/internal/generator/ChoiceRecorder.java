@@ -0,0 +1,131 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2020 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal.generator;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/* Derives every draw from a single 64-bit choice, in the way the JDK
+   sources of randomness in the random package do, and keeps the choices
+   made since the last restart. While replaying, the choices come from a
+   given sequence instead of the source: choices past its end are zero,
+   and making more than a given number of them overruns the replay. That
+   bounds generators that keep drawing until they like what they draw.
+ */
+final class ChoiceRecorder extends Random {
+    private static final long serialVersionUID = Long.MIN_VALUE;
+
+    private final Random source;
+
+    private long[] choices = new long[16];
+    private int length;
+    private long[] replaying;
+    private int limit;
+
+    ChoiceRecorder(Random source) {
+        this.source = source;
+    }
+
+    void restart() {
+        length = 0;
+    }
+
+    long[] choices() {
+        return Arrays.copyOf(choices, length);
+    }
+
+    void replay(long[] sequence, int limit) {
+        this.replaying = sequence;
+        this.limit = limit;
+        this.length = 0;
+    }
+
+    void record() {
+        replaying = null;
+    }
+
+    @Override public void setSeed(long seed) {
+        // Random's constructor calls this before the source is assigned.
+        if (source != null) {
+            source.setSeed(seed);
+            record();
+        }
+    }
+
+    @Override protected int next(int bits) {
+        return (int) (choose() >>> (64 - bits));
+    }
+
+    @Override public int nextInt() {
+        return (int) (choose() >>> 32);
+    }
+
+    @Override public long nextLong() {
+        return choose();
+    }
+
+    @Override public boolean nextBoolean() {
+        return choose() < 0;
+    }
+
+    @Override public double nextDouble() {
+        return (choose() >>> 11) * 0x1.0p-53;
+    }
+
+    @Override public float nextFloat() {
+        return (choose() >>> 40) * 0x1.0p-24f;
+    }
+
+    @Override public double nextGaussian() {
+        // Box-Muller without rejection, so that choices of zero give zero.
+        double radius = StrictMath.sqrt(-2 * StrictMath.log(1 - nextDouble()));
+        return radius * StrictMath.cos(2 * StrictMath.PI * nextDouble());
+    }
+
+    private long choose() {
+        long choice;
+        if (replaying == null)
+            choice = source.nextLong();
+        else if (length >= limit)
+            throw new Overrun();
+        else
+            choice = length < replaying.length ? replaying[length] : 0;
+
+        if (length == choices.length)
+            choices = Arrays.copyOf(choices, length * 2);
+        choices[length++] = choice;
+
+        return choice;
+    }
+
+    static final class Overrun extends RuntimeException {
+        private static final long serialVersionUID = Long.MIN_VALUE;
+
+        Overrun() {
+            super("Replay made more choices than allowed");
+        }
+    }
+}
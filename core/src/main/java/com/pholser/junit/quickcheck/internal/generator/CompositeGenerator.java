@@ -25,6 +25,7 @@
 
 package com.pholser.junit.quickcheck.internal.generator;
 
+import static com.pholser.junit.quickcheck.internal.Sequences.flatMapLazily;
 import static java.util.stream.Collectors.toList;
 
 import com.pholser.junit.quickcheck.generator.GenerationStatus;
@@ -40,6 +41,7 @@ import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 public class CompositeGenerator extends Generator<Object> {
     private final List<Weighted<Generator<?>>> composed;
@@ -68,13 +70,44 @@ public class CompositeGenerator extends Generator<Object> {
         SourceOfRandomness random,
         Object larger) {
 
+        return new ArrayList<>(shrinker(random, larger).shrink(random, larger));
+    }
+
+    @Override public Stream<Object> doShrinkLazily(
+        SourceOfRandomness random,
+        Object larger) {
+
+        return shrinker(random, larger)
+            .shrinkLazily(random, larger)
+            .map(Object.class::cast);
+    }
+
+    @Override public boolean canEnumerate() {
+        return composed.stream().allMatch(w -> w.item.canEnumerate());
+    }
+
+    /*
+     * Different composed generators might give the same value, even at
+     * different sizes.
+     */
+    @Override public Stream<Object> enumerateOfSize(int size) {
+        return flatMapLazily(
+            composed.stream(),
+            w -> w.item.enumerateOfSize(size).map(Object.class::cast))
+            .distinct();
+    }
+
+    @Override public Stream<Object> enumerate(int maxSize) {
+        return super.enumerate(maxSize).distinct();
+    }
+
+    private Generator<?> shrinker(SourceOfRandomness random, Object larger) {
         List<Weighted<Generator<?>>> shrinkers =
             composed.stream()
                 .filter(w -> w.item.canShrink(larger))
                 .collect(toList());
 
-        Generator<?> choice = Items.chooseWeighted(shrinkers, random);
-        return new ArrayList<>(choice.shrink(random, larger));
+        return Items.chooseWeighted(shrinkers, random);
     }
 
     Generator<?> composed(int index) {
@@ -93,12 +126,19 @@ public class CompositeGenerator extends Generator<Object> {
     }
 
     @Override public BigDecimal magnitude(Object value) {
-        List<Weighted<Generator<?>>> shrinkers =
-            composed.stream()
-                .filter(w -> w.item.canShrink(value))
-                .collect(toList());
+        return firstShrinkerOf(value).magnitude(value);
+    }
 
-        return shrinkers.get(0).item.magnitude(value);
+    @Override public double doubleMagnitude(Object value) {
+        return firstShrinkerOf(value).doubleMagnitude(value);
+    }
+
+    private Generator<?> firstShrinkerOf(Object value) {
+        return composed.stream()
+            .filter(w -> w.item.canShrink(value))
+            .findFirst()
+            .get()
+            .item;
     }
 
     @Override public void configure(AnnotatedType annotatedType) {
@@ -37,11 +37,28 @@ import java.util.ArrayList;
 import java.util.List;
 
 public class ExhaustiveDomainGenerator extends Generator<Object> {
+    private final List<?> domain;
     private final Iterator<?> items;
 
     public ExhaustiveDomainGenerator(Collection<?> items) {
+        this(sorted(items));
+    }
+
+    private ExhaustiveDomainGenerator(List<?> domain) {
         super(Object.class);
 
+        this.domain = domain;
+        this.items = domain.iterator();
+    }
+
+    /*
+     * Keeps the given order of the items, which are assumed to be distinct.
+     */
+    public static ExhaustiveDomainGenerator inOrder(List<?> items) {
+        return new ExhaustiveDomainGenerator(new ArrayList<>(items));
+    }
+
+    private static List<?> sorted(Collection<?> items) {
         List list = new ArrayList<>(new HashSet<>(items));
 
         try {
@@ -51,7 +68,7 @@ public class ExhaustiveDomainGenerator extends Generator<Object> {
             // this exception which cannot be sorted.
         }
 
-        this.items = list.iterator();
+        return list;
     }
 
     @Override public Object generate(
@@ -64,4 +81,12 @@ public class ExhaustiveDomainGenerator extends Generator<Object> {
     boolean hasNext() {
         return items.hasNext();
     }
+
+    public int size() {
+        return domain.size();
+    }
+
+    Object get(int index) {
+        return domain.get(index);
+    }
 }
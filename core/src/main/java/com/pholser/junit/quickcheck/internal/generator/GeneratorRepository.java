@@ -223,7 +223,9 @@ public class GeneratorRepository implements Generators {
         return generator;
     }
 
-    @Override public final Generators withRandom(SourceOfRandomness other) {
+    @Override public final GeneratorRepository withRandom(
+        SourceOfRandomness other) {
+
         return new GeneratorRepository(other, this.generators);
     }
 
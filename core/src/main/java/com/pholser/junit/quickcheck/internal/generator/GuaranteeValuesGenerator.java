@@ -28,6 +28,7 @@ package com.pholser.junit.quickcheck.internal.generator;
 import com.pholser.junit.quickcheck.generator.GenerationStatus;
 import com.pholser.junit.quickcheck.generator.Generator;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+import java.util.Optional;
 
 public class GuaranteeValuesGenerator extends Generator<Object> {
     private final ExhaustiveDomainGenerator guaranteed;
@@ -47,6 +48,14 @@ public class GuaranteeValuesGenerator extends Generator<Object> {
         SourceOfRandomness random,
         GenerationStatus status) {
 
+        Optional<Integer> position =
+            status.valueOf(PropertyParameterGenerationContext.POSITION);
+        if (position.isPresent()) {
+            return position.get() < guaranteed.size()
+                ? guaranteed.get(position.get())
+                : rest.generate(random, status);
+        }
+
         return guaranteed.hasNext()
             ? guaranteed.generate(random, status)
             : rest.generate(random, status);
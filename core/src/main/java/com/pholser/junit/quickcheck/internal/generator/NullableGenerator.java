@@ -36,6 +36,7 @@ import java.lang.reflect.AnnotatedType;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 import org.javaruntype.type.TypeParameter;
 
 class NullableGenerator<T> extends Generator<T> {
@@ -105,10 +106,31 @@ class NullableGenerator<T> extends Generator<T> {
         return delegate.doShrink(random, larger);
     }
 
+    @Override public Stream<T> doShrinkLazily(
+        SourceOfRandomness random,
+        T larger) {
+
+        return delegate.doShrinkLazily(random, larger);
+    }
+
+    @Override public boolean canEnumerate() {
+        return delegate.canEnumerate();
+    }
+
+    @Override public Stream<T> enumerateOfSize(int size) {
+        return size == 0 && probabilityOfNull > 0
+            ? Stream.concat(Stream.of((T) null), delegate.enumerateOfSize(0))
+            : delegate.enumerateOfSize(size);
+    }
+
     @Override public BigDecimal magnitude(Object value) {
         return delegate.magnitude(value);
     }
 
+    @Override public double doubleMagnitude(Object value) {
+        return delegate.doubleMagnitude(value);
+    }
+
     private void configure(NullAllowed allowed) {
         if (allowed.probability() >= 0 && allowed.probability() <= 1) {
             this.probabilityOfNull = allowed.probability();
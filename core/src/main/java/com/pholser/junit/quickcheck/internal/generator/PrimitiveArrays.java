@@ -0,0 +1,112 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2020 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal.generator;
+
+import com.pholser.junit.quickcheck.generator.Gen;
+import com.pholser.junit.quickcheck.generator.GenerationStatus;
+import com.pholser.junit.quickcheck.generator.Generator;
+import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+
+final class PrimitiveArrays {
+    private PrimitiveArrays() {
+        throw new UnsupportedOperationException();
+    }
+
+    static Object generate(
+        Class<?> componentType,
+        Generator<?> component,
+        int length,
+        SourceOfRandomness random,
+        GenerationStatus status) {
+
+        if (componentType == boolean.class
+            && component instanceof Gen.OfBoolean) {
+
+            Gen.OfBoolean booleans = (Gen.OfBoolean) component;
+            boolean[] array = new boolean[length];
+            for (int i = 0; i < length; ++i)
+                array[i] = booleans.generateBoolean(random, status);
+            return array;
+        }
+        if (componentType == byte.class && component instanceof Gen.OfByte) {
+            Gen.OfByte bytes = (Gen.OfByte) component;
+            byte[] array = new byte[length];
+            for (int i = 0; i < length; ++i)
+                array[i] = bytes.generateByte(random, status);
+            return array;
+        }
+        if (componentType == char.class && component instanceof Gen.OfChar) {
+            Gen.OfChar chars = (Gen.OfChar) component;
+            char[] array = new char[length];
+            for (int i = 0; i < length; ++i)
+                array[i] = chars.generateChar(random, status);
+            return array;
+        }
+        if (componentType == short.class
+            && component instanceof Gen.OfShort) {
+
+            Gen.OfShort shorts = (Gen.OfShort) component;
+            short[] array = new short[length];
+            for (int i = 0; i < length; ++i)
+                array[i] = shorts.generateShort(random, status);
+            return array;
+        }
+        if (componentType == int.class && component instanceof Gen.OfInt) {
+            Gen.OfInt ints = (Gen.OfInt) component;
+            int[] array = new int[length];
+            for (int i = 0; i < length; ++i)
+                array[i] = ints.generateInt(random, status);
+            return array;
+        }
+        if (componentType == long.class && component instanceof Gen.OfLong) {
+            Gen.OfLong longs = (Gen.OfLong) component;
+            long[] array = new long[length];
+            for (int i = 0; i < length; ++i)
+                array[i] = longs.generateLong(random, status);
+            return array;
+        }
+        if (componentType == float.class
+            && component instanceof Gen.OfFloat) {
+
+            Gen.OfFloat floats = (Gen.OfFloat) component;
+            float[] array = new float[length];
+            for (int i = 0; i < length; ++i)
+                array[i] = floats.generateFloat(random, status);
+            return array;
+        }
+        if (componentType == double.class
+            && component instanceof Gen.OfDouble) {
+
+            Gen.OfDouble doubles = (Gen.OfDouble) component;
+            double[] array = new double[length];
+            for (int i = 0; i < length; ++i)
+                array[i] = doubles.generateDouble(random, status);
+            return array;
+        }
+
+        return null;
+    }
+}
@@ -31,26 +31,37 @@ import static java.math.BigDecimal.ZERO;
 import static java.util.Collections.emptyList;
 
 import com.pholser.junit.quickcheck.generator.Generator;
+import com.pholser.junit.quickcheck.internal.ChoiceSequences;
 import com.pholser.junit.quickcheck.internal.GeometricDistribution;
 import com.pholser.junit.quickcheck.internal.ParameterSampler;
 import com.pholser.junit.quickcheck.internal.PropertyParameterContext;
+import com.pholser.junit.quickcheck.internal.Seeds;
 import com.pholser.junit.quickcheck.internal.constraint.ConstraintEvaluator;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
 
 public class PropertyParameterGenerationContext
     extends AbstractGenerationStatus {
 
+    public static final Key<Integer> POSITION =
+        new Key<>("junit-quickcheck.position", Integer.class);
+
     private final PropertyParameterContext parameter;
     private final ConstraintEvaluator evaluator;
     private final Generator<?> generator;
     private final int sampleSize;
+    private final long seed;
+    private final ChoiceRecorder choices;
 
     private int successfulEvaluations;
     private int discards;
     private int semiAttempts;
+    private int trial = -1;
+    private int trialDiscards;
 
     public PropertyParameterGenerationContext(
         PropertyParameterContext parameter,
@@ -59,13 +70,48 @@ public class PropertyParameterGenerationContext
         SourceOfRandomness random,
         ParameterSampler sampler) {
 
-        super(distro, initializeRandomness(parameter, random));
+        this(parameter, repository, distro, random, sampler, false);
+    }
+
+    public PropertyParameterGenerationContext(
+        PropertyParameterContext parameter,
+        GeneratorRepository repository,
+        GeometricDistribution distro,
+        SourceOfRandomness random,
+        ParameterSampler sampler,
+        boolean recordChoices) {
+
+        this(
+            parameter,
+            repository,
+            distro,
+            random,
+            sampler,
+            recordChoices ? new ChoiceRecorder(random.toJDKRandom()) : null);
+    }
+
+    private PropertyParameterGenerationContext(
+        PropertyParameterContext parameter,
+        GeneratorRepository repository,
+        GeometricDistribution distro,
+        SourceOfRandomness random,
+        ParameterSampler sampler,
+        ChoiceRecorder choices) {
+
+        super(
+            distro,
+            initializeRandomness(
+                parameter,
+                choices == null ? random : new SourceOfRandomness(choices)));
 
         this.parameter = parameter;
         this.evaluator = new ConstraintEvaluator(parameter.constraint());
         this.generator =
             sampler.decideGenerator(repository, parameter.typeContext());
-        this.sampleSize = sampler.sizeFactor(parameter.typeContext());
+        this.sampleSize =
+            sampler.sizeFactor(parameter.typeContext(), generator);
+        this.seed = random().seed();
+        this.choices = choices;
     }
 
     private static SourceOfRandomness initializeRandomness(
@@ -78,24 +124,79 @@ public class PropertyParameterGenerationContext
         return r;
     }
 
+    public void startTrial(int trial) {
+        this.trial = trial;
+        this.trialDiscards = 0;
+        this.semiAttempts = 0;
+        random().setSeed(Seeds.trialSeed(seed, trial));
+    }
+
     public Object generate() {
-        Object nextValue;
+        if (choices != null)
+            choices.restart();
 
-        for (nextValue = generator.generate(random(), this);
-            !evaluate(nextValue);) {
+        Object nextValue;
 
-            nextValue = generator.generate(random(), this);
-        }
+        for (nextValue = generateCandidate(); !evaluate(nextValue);)
+            nextValue = generateCandidate();
 
         return nextValue;
     }
 
+    private Object generateCandidate() {
+        if (trial >= 0)
+            setValue(POSITION, trial + trialDiscards);
+
+        return generator.generate(random(), this);
+    }
+
     public List<Object> shrink(Object larger) {
         return generator.canShrink(larger)
             ? new ArrayList<>(generator.shrink(random(), larger))
             : emptyList();
     }
 
+    public Stream<Object> shrinkLazily(Object larger) {
+        return generator.canShrink(larger)
+            ? generator.shrinkLazily(random(), larger).map(Object.class::cast)
+            : Stream.empty();
+    }
+
+    public boolean recordsChoices() {
+        return choices != null;
+    }
+
+    public long[] choices() {
+        return choices == null ? null : choices.choices();
+    }
+
+    /* Values generated from simpler choices than those that gave the
+       larger value, with the choices each was generated from.
+     */
+    public Stream<Replayed> shrinkChoices(Object larger, long[] largerChoices) {
+        return ChoiceSequences.shrinks(largerChoices)
+            .map(c -> replay(c, largerChoices.length))
+            .filter(r -> r != null
+                && ChoiceSequences.simpler(r.choices(), largerChoices)
+                && !Objects.equals(r.value(), larger));
+    }
+
+    private Replayed replay(long[] sequence, int limit) {
+        choices.replay(sequence, limit);
+        try {
+            Object value = generateCandidate();
+            evaluator.bind(value);
+            return evaluator.evaluate()
+                ? new Replayed(value, choices.choices())
+                : null;
+        } catch (RuntimeException e) {
+            // Simpler choices need not suit the generator; skip them.
+            return null;
+        } finally {
+            choices.record();
+        }
+    }
+
     private boolean evaluate(Object value) {
         evaluator.bind(value);
         boolean result = evaluator.evaluate();
@@ -104,6 +205,7 @@ public class PropertyParameterGenerationContext
             ++successfulEvaluations;
         } else {
             ++discards;
+            ++trialDiscards;
         }
 
         if (tooManyDiscards()) {
@@ -130,7 +232,11 @@ public class PropertyParameterGenerationContext
     }
 
     @Override public int attempts() {
-        return successfulEvaluations + discards + (semiAttempts / 10);
+        int previous =
+            trial >= 0
+                ? trial + trialDiscards
+                : successfulEvaluations + discards;
+        return previous + (semiAttempts / 10);
     }
 
     @Override public void semiAttempt() {
@@ -138,7 +244,7 @@ public class PropertyParameterGenerationContext
     }
 
     public long effectiveSeed() {
-        return random().seed();
+        return seed;
     }
 
     public int sampleSize() {
@@ -155,6 +261,30 @@ public class PropertyParameterGenerationContext
             : ZERO;
     }
 
+    public double doubleMagnitude(Object value) {
+        return generator.canShrink(value)
+            ? Math.abs(generator.doubleMagnitude(value))
+            : 0;
+    }
+
+    public static final class Replayed {
+        private final Object value;
+        private final long[] choices;
+
+        Replayed(Object value, long[] choices) {
+            this.value = value;
+            this.choices = choices;
+        }
+
+        public Object value() {
+            return value;
+        }
+
+        public long[] choices() {
+            return choices.clone();
+        }
+    }
+
     public static class DiscardRatioExceededException
         extends RuntimeException {
 
@@ -37,7 +37,7 @@ import com.pholser.junit.quickcheck.conversion.StringConversion;
 import com.pholser.junit.quickcheck.generator.Also;
 import com.pholser.junit.quickcheck.generator.Generator;
 import com.pholser.junit.quickcheck.generator.Only;
-import com.pholser.junit.quickcheck.internal.CartesianIterator;
+import com.pholser.junit.quickcheck.internal.CartesianSpliterator;
 import com.pholser.junit.quickcheck.internal.ParameterSampler;
 import com.pholser.junit.quickcheck.internal.ParameterTypeContext;
 import com.pholser.junit.quickcheck.internal.SeededValue;
@@ -49,7 +49,6 @@ import com.pholser.junit.quickcheck.internal.generator.PropertyParameterGenerati
 import java.lang.reflect.Array;
 import java.util.Arrays;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Stream;
@@ -63,14 +62,42 @@ public class ExhaustiveParameterSampler implements ParameterSampler {
     }
 
     @Override public int sizeFactor(ParameterTypeContext p) {
-        Only only = p.annotatedType().getAnnotation(Only.class);
-        if (only != null)
-            return new HashSet<>(asList(only.value())).size();
+        int domainSize = domainSize(p);
+        if (domainSize >= 0)
+            return domainSize;
 
         Also also = p.annotatedType().getAnnotation(Also.class);
         if (also != null)
             return max(sizeFactor, new HashSet<>(asList(also.value())).size());
 
+        return sizeFactor;
+    }
+
+    /*
+     * A parameter whose generator enumerates its values may have fewer of
+     * them than asked for.
+     */
+    @Override public int sizeFactor(
+        ParameterTypeContext p,
+        Generator<?> generator) {
+
+        return generator instanceof ExhaustiveDomainGenerator
+            ? ((ExhaustiveDomainGenerator) generator).size()
+            : sizeFactor(p);
+    }
+
+    /*
+     * Gives the number of values that the parameter can take, if they are
+     * all known without asking a generator; otherwise, -1.
+     */
+    public static int domainSize(ParameterTypeContext p) {
+        Only only = p.annotatedType().getAnnotation(Only.class);
+        if (only != null)
+            return new HashSet<>(asList(only.value())).size();
+
+        if (p.annotatedType().getAnnotation(Also.class) != null)
+            return -1;
+
         if (Boolean.class.equals(maybeWrap(p.getRawClass())))
             return 2;
 
@@ -81,22 +108,24 @@ public class ExhaustiveParameterSampler implements ParameterSampler {
                     null));
         }
 
-        return sizeFactor;
+        return -1;
     }
 
     @Override
     public Stream<List<SeededValue>> sample(
         List<PropertyParameterGenerationContext> parameters) {
 
-        List<Iterator<SeededValue>> sources =
+        List<List<SeededValue>> tables =
             parameters.stream()
                 .map(p ->
                     Stream.generate(() -> new SeededValue(p))
                         .limit(p.sampleSize())
-                        .iterator())
+                        .collect(toList()))
                 .collect(toList());
 
-        return cartesian(sources);
+        return StreamSupport.stream(
+            new CartesianSpliterator<SeededValue>(tables),
+            false);
     }
 
     @Override public Generator<?> decideGenerator(
@@ -134,11 +163,14 @@ public class ExhaustiveParameterSampler implements ParameterSampler {
                 asList(p.getRawClass().getEnumConstants()));
         }
 
-        return repository.produceGenerator(p);
-    }
+        Generator<?> generator = repository.produceGenerator(p);
+        if (generator.canEnumerate()) {
+            return ExhaustiveDomainGenerator.inOrder(
+                generator.enumerate(sizeFactor)
+                    .limit(sizeFactor)
+                    .collect(toList()));
+        }
 
-    private <T> Stream<List<T>> cartesian(List<Iterator<T>> sources) {
-        Iterable<List<T>> cartesian = () -> new CartesianIterator<>(sources);
-        return StreamSupport.stream(cartesian.spliterator(), false);
+        return generator;
     }
 }
@@ -44,28 +44,41 @@ import com.pholser.junit.quickcheck.internal.generator.SamplingDomainGenerator;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 public class TupleParameterSampler implements ParameterSampler {
+    private final int sizeFactor;
     private final int trials;
 
     public TupleParameterSampler(int trials) {
+        this(trials, trials);
+    }
+
+    public TupleParameterSampler(int sizeFactor, int trials) {
+        this.sizeFactor = sizeFactor;
         this.trials = trials;
     }
 
     @Override public int sizeFactor(ParameterTypeContext p) {
-        return trials;
+        return sizeFactor;
     }
 
     @Override public Stream<List<SeededValue>> sample(
         List<PropertyParameterGenerationContext> parameters) {
 
-        Stream<List<SeededValue>> tupleStream =
-            Stream.generate(
-                () -> parameters.stream()
-                    .map(SeededValue::new)
-                    .collect(toList()));
-        return tupleStream.limit(trials);
+        return IntStream.range(0, trials)
+            .mapToObj(trial -> tuple(parameters, trial));
+    }
+
+    public List<SeededValue> tuple(
+        List<PropertyParameterGenerationContext> parameters,
+        int trial) {
+
+        parameters.forEach(p -> p.startTrial(trial));
+        return parameters.stream()
+            .map(SeededValue::new)
+            .collect(toList());
     }
 
     @Override public Generator<?> decideGenerator(
@@ -0,0 +1,79 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2020 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.random;
+
+/**
+ * <p>A JDK source of randomness that gives exactly the same sequence of
+ * values for a given seed as {@link java.util.Random}: the same 48-bit
+ * linear congruential generator, without {@link java.util.Random}'s atomic
+ * update on every draw.</p>
+ *
+ * <p>Draws are not synchronized; an instance is meant to be confined to a
+ * single thread, as junit-quickcheck does with the sources of randomness it
+ * makes for property parameters.</p>
+ */
+public class LinearCongruentialRandom extends StatefulRandom {
+    private static final long serialVersionUID = 1L;
+
+    private static final long MULTIPLIER = 0x5DEECE66DL;
+    private static final long ADDEND = 0xBL;
+    private static final long MASK = (1L << 48) - 1;
+
+    private long state;
+
+    /**
+     * Makes a new instance with an arbitrary seed.
+     */
+    public LinearCongruentialRandom() {
+        super();
+    }
+
+    /**
+     * Makes a new instance with the given seed.
+     *
+     * @param seed a seed value
+     */
+    public LinearCongruentialRandom(long seed) {
+        super(seed);
+    }
+
+    @Override void reseed(long seed) {
+        state = (seed ^ MULTIPLIER) & MASK;
+    }
+
+    @Override StatefulRandom blank() {
+        return new LinearCongruentialRandom(0);
+    }
+
+    @Override void assignState(StatefulRandom other) {
+        state = ((LinearCongruentialRandom) other).state;
+    }
+
+    @Override protected int next(int bits) {
+        state = (state * MULTIPLIER + ADDEND) & MASK;
+        return (int) (state >>> (48 - bits));
+    }
+}
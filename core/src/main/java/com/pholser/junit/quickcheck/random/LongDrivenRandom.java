@@ -0,0 +1,64 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2020 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.random;
+
+/**
+ * Base for JDK sources of randomness whose every draw is derived from a
+ * 64-bit output function.
+ */
+abstract class LongDrivenRandom extends StatefulRandom {
+    private static final long serialVersionUID = 1L;
+
+    LongDrivenRandom() {
+        super();
+    }
+
+    LongDrivenRandom(long seed) {
+        super(seed);
+    }
+
+    @Override public abstract long nextLong();
+
+    @Override protected int next(int bits) {
+        return (int) (nextLong() >>> (64 - bits));
+    }
+
+    @Override public int nextInt() {
+        return (int) (nextLong() >>> 32);
+    }
+
+    @Override public boolean nextBoolean() {
+        return nextLong() < 0;
+    }
+
+    @Override public double nextDouble() {
+        return (nextLong() >>> 11) * 0x1.0p-53;
+    }
+
+    @Override public float nextFloat() {
+        return (nextLong() >>> 40) * 0x1.0p-24f;
+    }
+}
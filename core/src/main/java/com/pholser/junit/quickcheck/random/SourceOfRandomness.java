@@ -26,10 +26,13 @@
 package com.pholser.junit.quickcheck.random;
 
 import static com.pholser.junit.quickcheck.internal.Ranges.checkRange;
+import static com.pholser.junit.quickcheck.internal.Reflection.findConstructor;
+import static com.pholser.junit.quickcheck.internal.Reflection.instantiate;
 import static java.util.concurrent.TimeUnit.SECONDS;
 
 import com.pholser.junit.quickcheck.internal.Items;
 import com.pholser.junit.quickcheck.internal.Ranges;
+import com.pholser.junit.quickcheck.internal.ReflectionException;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -38,6 +41,7 @@ import java.io.ObjectOutputStream;
 import java.math.BigInteger;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Random;
 
@@ -47,10 +51,11 @@ import java.util.Random;
  * so they can produce random values for property parameters.
  */
 public class SourceOfRandomness {
-    private static final BigInteger NANOS_PER_SECOND =
-        BigInteger.valueOf(SECONDS.toNanos(1));
+    private static final long NANOS_PER_SECOND = SECONDS.toNanos(1);
+    private static final long MAX_SECONDS_SPAN =
+        Long.MAX_VALUE / NANOS_PER_SECOND - 1;
 
-    private final Random delegate;
+    private Random delegate;
 
     private long seed;
 
@@ -66,31 +71,79 @@ public class SourceOfRandomness {
         delegate.setSeed(seed);
     }
 
+    private SourceOfRandomness(Random delegate, long seed) {
+        this.seed = seed;
+        this.delegate = delegate;
+        delegate.setSeed(seed);
+    }
+
     /**
      * <p>Gives a JDK source of randomness, with the same internal state as
      * this source of randomness.</p>
      *
+     * <p>The JDK sources of randomness in this package have their state
+     * copied directly; others are copied by serialization, which is much
+     * slower.</p>
+     *
      * @return a JDK "clone" of self
      */
     public Random toJDKRandom() {
-        ByteArrayOutputStream bytesOut = new ByteArrayOutputStream();
+        return copyOf(delegate);
+    }
 
-        try (ObjectOutputStream objectOut = new ObjectOutputStream(bytesOut)) {
-            objectOut.writeObject(delegate);
-        } catch (IOException ex) {
-            throw new IllegalStateException(ex);
-        }
+    /**
+     * <p>Gives a new source of randomness, backed by the same kind of JDK
+     * source of randomness as this one, and seeded with the next
+     * {@code long} value drawn from this one. Draws from the new source do
+     * not disturb the sequence of values of this one, and vice versa.</p>
+     *
+     * <p>This suits generators that need an independent stream of values
+     * that is nonetheless determined by this source's seed.</p>
+     *
+     * @return a new source of randomness
+     */
+    public SourceOfRandomness fork() {
+        long forkSeed = nextLong();
+        return new SourceOfRandomness(freshOf(delegate), forkSeed);
+    }
 
-        ByteArrayInputStream bytesIn =
-            new ByteArrayInputStream(bytesOut.toByteArray());
+    /**
+     * Gives a record of the current state of this source of randomness,
+     * which can later be given to {@link #restore(Snapshot)} to rewind this
+     * source to that state.
+     *
+     * @return a snapshot of this source's state
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(copyOf(delegate), seed);
+    }
 
-        try (ObjectInputStream objectIn = new ObjectInputStream(bytesIn)) {
-            return (Random) objectIn.readObject();
-        } catch (IOException ex) {
-            throw new IllegalStateException(ex);
-        } catch (ClassNotFoundException shouldNeverHappen) {
-            throw new AssertionError(shouldNeverHappen);
+    /**
+     * <p>Puts this source of randomness back into the state recorded in the
+     * given snapshot; the values drawn afterward are the same as those drawn
+     * after the snapshot was taken. A snapshot can be restored any number of
+     * times.</p>
+     *
+     * <p>If the JDK source of randomness of this instance cannot have its
+     * state assigned directly, it is replaced by a copy of the snapshot's.
+     * </p>
+     *
+     * @param snapshot a snapshot taken from this source of randomness
+     * @throws IllegalStateException if the snapshot's source of randomness
+     * can be neither assigned from nor copied
+     */
+    public void restore(Snapshot snapshot) {
+        Random state = snapshot.state;
+        if (delegate instanceof StatefulRandom
+            && state instanceof StatefulRandom
+            && delegate.getClass() == state.getClass()) {
+
+            ((StatefulRandom) delegate).assign((StatefulRandom) state);
+        } else {
+            delegate = copyOf(state);
         }
+
+        seed = snapshot.seed;
     }
 
     /**
@@ -278,6 +331,83 @@ public class SourceOfRandomness {
         return Ranges.choose(this, min, max);
     }
 
+    /**
+     * <p>Fills the given array with random {@code boolean} values, packed
+     * 64 to a word: each bit of each element is set or clear with equal
+     * probability.</p>
+     *
+     * <p>This is cheaper than calling {@link #nextBoolean()} once per
+     * value; the bits can be unpacked with, for example,
+     * {@link java.util.BitSet#valueOf(long[])}.</p>
+     *
+     * @param words an array to fill with random bits
+     */
+    public void nextBooleans(long[] words) {
+        for (int i = 0; i < words.length; ++i)
+            words[i] = nextLong();
+    }
+
+    /**
+     * <p>Fills the given array with random {@code int} values, each
+     * uniformly distributed across the interval {@code [min, max]}.</p>
+     *
+     * <p>The values are the same as those of as many calls to
+     * {@link #nextInt(int, int)}, but the interval is checked only once.</p>
+     *
+     * @param values an array to fill with random values
+     * @param min lower bound of the desired interval
+     * @param max upper bound of the desired interval
+     */
+    public void nextInts(int[] values, int min, int max) {
+        int comparison = checkRange(Ranges.Type.INTEGRAL, min, max);
+        if (comparison == 0)
+            Arrays.fill(values, min);
+        else
+            Ranges.choose(this, values, min, max);
+    }
+
+    /**
+     * <p>Fills the given array with random {@code long} values, each
+     * uniformly distributed across the interval {@code [min, max]}.</p>
+     *
+     * <p>The values are the same as those of as many calls to
+     * {@link #nextLong(long, long)}, but the interval is checked only once.
+     * </p>
+     *
+     * @param values an array to fill with random values
+     * @param min lower bound of the desired interval
+     * @param max upper bound of the desired interval
+     */
+    public void nextLongs(long[] values, long min, long max) {
+        int comparison = checkRange(Ranges.Type.INTEGRAL, min, max);
+        if (comparison == 0)
+            Arrays.fill(values, min);
+        else
+            Ranges.choose(this, values, min, max);
+    }
+
+    /**
+     * <p>Fills the given array with random {@code double} values in the
+     * interval {@code [min, max)}.</p>
+     *
+     * <p>The values are the same as those of as many calls to
+     * {@link #nextDouble(double, double)}, but the interval is checked only
+     * once.</p>
+     *
+     * @param values an array to fill with random values
+     * @param min lower bound of the desired interval
+     * @param max upper bound of the desired interval
+     */
+    public void nextDoubles(double[] values, double min, double max) {
+        int comparison = checkRange(Ranges.Type.FLOAT, min, max);
+        if (comparison == 0) {
+            Arrays.fill(values, min);
+        } else {
+            for (int i = 0; i < values.length; ++i)
+                values[i] = min + (max - min) * nextDouble();
+        }
+    }
+
     /**
      * Gives a random {@code short} value, uniformly distributed across the
      * interval {@code [min, max]}.
@@ -380,25 +510,98 @@ public class SourceOfRandomness {
         return delegate;
     }
 
+    /*
+     * A new engine of the same kind, whose state is about to be replaced by
+     * seeding, need not be copied; only sources without an accessible
+     * no-arg constructor are.
+     */
+    private static Random freshOf(Random source) {
+        try {
+            return instantiate(findConstructor(source.getClass()));
+        } catch (ReflectionException ex) {
+            return copyOf(source);
+        }
+    }
+
+    private static Random copyOf(Random source) {
+        if (source instanceof StatefulRandom)
+            return ((StatefulRandom) source).copy();
+
+        ByteArrayOutputStream bytesOut = new ByteArrayOutputStream();
+
+        try (ObjectOutputStream objectOut = new ObjectOutputStream(bytesOut)) {
+            objectOut.writeObject(source);
+        } catch (IOException ex) {
+            throw new IllegalStateException(
+                "Cannot copy the state of " + source.getClass().getName(),
+                ex);
+        }
+
+        ByteArrayInputStream bytesIn =
+            new ByteArrayInputStream(bytesOut.toByteArray());
+
+        try (ObjectInputStream objectIn = new ObjectInputStream(bytesIn)) {
+            return (Random) objectIn.readObject();
+        } catch (IOException ex) {
+            throw new IllegalStateException(
+                "Cannot copy the state of " + source.getClass().getName(),
+                ex);
+        } catch (ClassNotFoundException shouldNeverHappen) {
+            throw new AssertionError(shouldNeverHappen);
+        }
+    }
+
     private long[] nextSecondsAndNanos(
         long minSeconds,
         long minNanos,
         long maxSeconds,
         long maxNanos) {
 
-        BigInteger nanoMin =
-            BigInteger.valueOf(minSeconds)
-                .multiply(NANOS_PER_SECOND)
-                .add(BigInteger.valueOf(minNanos));
-        BigInteger nanoMax =
-            BigInteger.valueOf(maxSeconds)
-                .multiply(NANOS_PER_SECOND)
-                .add(BigInteger.valueOf(maxNanos));
+        long secondsSpan = maxSeconds - minSeconds;
+
+        if (secondsSpan >= 0 && secondsSpan < MAX_SECONDS_SPAN) {
+            // the whole interval, in nanoseconds, fits in a long
+            long offset =
+                nextLong(
+                    0,
+                    secondsSpan * NANOS_PER_SECOND + maxNanos - minNanos);
+            long seconds = minSeconds + offset / NANOS_PER_SECOND;
+            long nanos = minNanos + offset % NANOS_PER_SECOND;
+            if (nanos >= NANOS_PER_SECOND) {
+                ++seconds;
+                nanos -= NANOS_PER_SECOND;
+            }
+
+            return new long[] { seconds, nanos };
+        }
+
+        /* Too wide for a long of nanoseconds: choose uniformly among whole
+           seconds and nanoseconds of the second, rejecting the few points
+           before min or after max. With at least MAX_SECONDS_SPAN seconds
+           to choose from, rejections are vanishingly rare.
+         */
+        long seconds;
+        long nanos;
+        do {
+            seconds = nextLong(minSeconds, maxSeconds);
+            nanos = nextLong(0, NANOS_PER_SECOND - 1);
+        } while ((seconds == minSeconds && nanos < minNanos)
+            || (seconds == maxSeconds && nanos > maxNanos));
+
+        return new long[] { seconds, nanos };
+    }
 
-        BigInteger[] generated =
-            Ranges.choose(this, nanoMin, nanoMax)
-                .divideAndRemainder(NANOS_PER_SECOND);
+    /**
+     * The state of a {@link SourceOfRandomness} at some point, as given by
+     * {@link SourceOfRandomness#snapshot()}.
+     */
+    public static final class Snapshot {
+        private final Random state;
+        private final long seed;
 
-        return new long[] { generated[0].longValue(), generated[1].longValue() };
+        private Snapshot(Random state, long seed) {
+            this.state = state;
+            this.seed = seed;
+        }
     }
 }
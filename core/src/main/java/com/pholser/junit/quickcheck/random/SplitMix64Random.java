@@ -0,0 +1,77 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2020 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.random;
+
+import static com.pholser.junit.quickcheck.internal.Seeds.mix;
+
+/**
+ * <p>A JDK source of randomness backed by the SplitMix64 algorithm, the
+ * algorithm behind {@link java.util.SplittableRandom}.</p>
+ *
+ * <p>Draws are not synchronized; an instance is meant to be confined to a
+ * single thread, as junit-quickcheck does with the sources of randomness it
+ * makes for property parameters.</p>
+ */
+public class SplitMix64Random extends LongDrivenRandom {
+    private static final long serialVersionUID = 1L;
+
+    static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private long state;
+
+    /**
+     * Makes a new instance with an arbitrary seed.
+     */
+    public SplitMix64Random() {
+        super();
+    }
+
+    /**
+     * Makes a new instance with the given seed.
+     *
+     * @param seed a seed value
+     */
+    public SplitMix64Random(long seed) {
+        super(seed);
+    }
+
+    @Override void reseed(long seed) {
+        state = seed;
+    }
+
+    @Override StatefulRandom blank() {
+        return new SplitMix64Random(0);
+    }
+
+    @Override void assignState(StatefulRandom other) {
+        state = ((SplitMix64Random) other).state;
+    }
+
+    @Override public long nextLong() {
+        state += GOLDEN_GAMMA;
+        return mix(state);
+    }
+}
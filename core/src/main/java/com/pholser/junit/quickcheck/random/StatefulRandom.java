@@ -0,0 +1,107 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2020 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.random;
+
+import java.util.Random;
+
+/**
+ * Base for JDK sources of randomness that keep their state in plain fields,
+ * so that the state can be copied directly rather than through
+ * serialization. Instances are not safe for use by several threads at once.
+ */
+abstract class StatefulRandom extends Random {
+    private static final long serialVersionUID = 1L;
+
+    private double nextNextGaussian;
+    private boolean haveNextNextGaussian;
+
+    StatefulRandom() {
+        super();
+    }
+
+    StatefulRandom(long seed) {
+        super(seed);
+    }
+
+    /**
+     * Called by {@link Random}'s constructors and by {@link #setSeed(long)};
+     * must reset all the state of the instance from the given seed.
+     *
+     * @param seed a seed value
+     */
+    abstract void reseed(long seed);
+
+    /**
+     * @return a new instance of the same class, in any state
+     */
+    abstract StatefulRandom blank();
+
+    /**
+     * Makes the state of this instance the same as that of the given
+     * instance, which is of the same class.
+     *
+     * @param other an instance to copy state from
+     */
+    abstract void assignState(StatefulRandom other);
+
+    final StatefulRandom copy() {
+        StatefulRandom copy = blank();
+        copy.assign(this);
+        return copy;
+    }
+
+    final void assign(StatefulRandom other) {
+        nextNextGaussian = other.nextNextGaussian;
+        haveNextNextGaussian = other.haveNextNextGaussian;
+        assignState(other);
+    }
+
+    @Override public void setSeed(long seed) {
+        haveNextNextGaussian = false;
+        reseed(seed);
+    }
+
+    @Override public double nextGaussian() {
+        if (haveNextNextGaussian) {
+            haveNextNextGaussian = false;
+            return nextNextGaussian;
+        }
+
+        double v1;
+        double v2;
+        double s;
+        do {
+            v1 = 2 * nextDouble() - 1;
+            v2 = 2 * nextDouble() - 1;
+            s = v1 * v1 + v2 * v2;
+        } while (s >= 1 || s == 0);
+
+        double multiplier = StrictMath.sqrt(-2 * StrictMath.log(s) / s);
+        nextNextGaussian = v2 * multiplier;
+        haveNextNextGaussian = true;
+        return v1 * multiplier;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2020 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.random;
+
+import static com.pholser.junit.quickcheck.internal.Seeds.mix;
+
+/**
+ * <p>A JDK source of randomness backed by the xoshiro256** algorithm of
+ * Blackman and Vigna. Its 256 bits of state are filled from the seed with
+ * {@linkplain SplitMix64Random SplitMix64}.</p>
+ *
+ * <p>Draws are not synchronized; an instance is meant to be confined to a
+ * single thread, as junit-quickcheck does with the sources of randomness it
+ * makes for property parameters.</p>
+ */
+public class Xoshiro256StarStarRandom extends LongDrivenRandom {
+    private static final long serialVersionUID = 1L;
+
+    private long s0;
+    private long s1;
+    private long s2;
+    private long s3;
+
+    /**
+     * Makes a new instance with an arbitrary seed.
+     */
+    public Xoshiro256StarStarRandom() {
+        super();
+    }
+
+    /**
+     * Makes a new instance with the given seed.
+     *
+     * @param seed a seed value
+     */
+    public Xoshiro256StarStarRandom(long seed) {
+        super(seed);
+    }
+
+    @Override void reseed(long seed) {
+        s0 = mix(seed += SplitMix64Random.GOLDEN_GAMMA);
+        s1 = mix(seed += SplitMix64Random.GOLDEN_GAMMA);
+        s2 = mix(seed += SplitMix64Random.GOLDEN_GAMMA);
+        s3 = mix(seed + SplitMix64Random.GOLDEN_GAMMA);
+    }
+
+    @Override StatefulRandom blank() {
+        return new Xoshiro256StarStarRandom(0);
+    }
+
+    @Override void assignState(StatefulRandom other) {
+        Xoshiro256StarStarRandom source = (Xoshiro256StarStarRandom) other;
+        s0 = source.s0;
+        s1 = source.s1;
+        s2 = source.s2;
+        s3 = source.s3;
+    }
+
+    @Override public long nextLong() {
+        long result = Long.rotateLeft(s1 * 5, 7) * 9;
+        long t = s1 << 17;
+
+        s2 ^= s0;
+        s3 ^= s1;
+        s1 ^= s2;
+        s0 ^= s3;
+        s2 ^= t;
+        s3 = Long.rotateLeft(s3, 45);
+
+        return result;
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2020 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.runner;
+
+import static java.util.stream.Collectors.toList;
+
+import com.pholser.junit.quickcheck.internal.SeededValue;
+import com.pholser.junit.quickcheck.internal.generator.PropertyParameterGenerationContext;
+import java.util.List;
+
+final class FailedTrial {
+    private final int index;
+    private final List<SeededValue> arguments;
+    private final AssertionError failure;
+    private final Runnable repeat;
+    private final Throwable error;
+
+    private FailedTrial(
+        int index,
+        List<SeededValue> arguments,
+        AssertionError failure,
+        Runnable repeat,
+        Throwable error) {
+
+        this.index = index;
+        this.arguments = arguments;
+        this.failure = failure;
+        this.repeat = repeat;
+        this.error = error;
+    }
+
+    static FailedTrial falsified(
+        int index,
+        List<SeededValue> arguments,
+        AssertionError failure,
+        Runnable repeat) {
+
+        return new FailedTrial(index, arguments, failure, repeat, null);
+    }
+
+    static FailedTrial errored(int index, Throwable error) {
+        return new FailedTrial(index, null, null, null, error);
+    }
+
+    int index() {
+        return index;
+    }
+
+    boolean errored() {
+        return error != null;
+    }
+
+    Throwable error() {
+        return error;
+    }
+
+    AssertionError failure() {
+        return failure;
+    }
+
+    Runnable repeat() {
+        return repeat;
+    }
+
+    List<PropertyParameterGenerationContext> params() {
+        return arguments.stream()
+            .map(SeededValue::parameter)
+            .collect(toList());
+    }
+
+    Object[] args() {
+        return arguments.stream().map(SeededValue::value).toArray();
+    }
+
+    long[] seeds() {
+        return arguments.stream().mapToLong(SeededValue::seed).toArray();
+    }
+
+    long[][] choices() {
+        return arguments.stream()
+            .map(SeededValue::choices)
+            .toArray(long[][]::new);
+    }
+}
@@ -25,6 +25,9 @@
 
 package com.pholser.junit.quickcheck.runner;
 
+import static com.pholser.junit.quickcheck.Lifecycle.PER_PROPERTY;
+
+import com.pholser.junit.quickcheck.BeforeTrial;
 import com.pholser.junit.quickcheck.Property;
 import com.pholser.junit.quickcheck.internal.GeometricDistribution;
 import com.pholser.junit.quickcheck.internal.generator.GeneratorRepository;
@@ -53,7 +56,9 @@ import org.slf4j.LoggerFactory;
  * {@link org.junit.After}, {@link org.junit.BeforeClass}, and
  * {@link org.junit.AfterClass}. Their execution is wrapped around the
  * verification of a property or execution of a test in the expected
- * order.</p>
+ * order: for a property, around each of its trials, or around all of them
+ * with {@link com.pholser.junit.quickcheck.Lifecycle#PER_PROPERTY}. Methods
+ * marked with {@link BeforeTrial} run before each trial.</p>
  */
 public class JUnitQuickcheck extends BlockJUnit4ClassRunner {
     private final GeneratorRepository repo;
@@ -80,12 +85,36 @@ public class JUnitQuickcheck extends BlockJUnit4ClassRunner {
 
     @Override protected void validateTestMethods(List<Throwable> errors) {
         validatePublicVoidNoArgMethods(Test.class, false, errors);
+        validatePublicVoidNoArgMethods(BeforeTrial.class, false, errors);
         validatePropertyMethods(errors);
     }
 
     private void validatePropertyMethods(List<Throwable> errors) {
         getTestClass().getAnnotatedMethods(Property.class)
-            .forEach(m -> m.validatePublicVoid(false, errors));
+            .forEach(m -> {
+                m.validatePublicVoid(false, errors);
+                validateLifecycle(m, errors);
+            });
+    }
+
+    /*
+     * A PER_PROPERTY instance is shared by every trial and shrink attempt,
+     * so they must not be verified on several threads at once.
+     */
+    private static void validateLifecycle(
+        FrameworkMethod method,
+        List<Throwable> errors) {
+
+        Property marker = method.getAnnotation(Property.class);
+        if (marker.lifecycle() == PER_PROPERTY
+            && (marker.parallelism() > 1 || marker.shrinkParallelism() > 1)) {
+
+            errors.add(
+                new Exception(
+                    "Property " + method.getName()
+                        + "() with lifecycle PER_PROPERTY cannot have"
+                        + " parallelism or shrinkParallelism above 1"));
+        }
     }
 
     @Override protected List<FrameworkMethod> computeTestMethods() {
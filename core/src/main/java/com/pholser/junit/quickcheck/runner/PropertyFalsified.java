@@ -98,4 +98,13 @@ final class PropertyFalsified {
         e.setStackTrace(smallerFailure.getStackTrace());
         return e;
     }
+
+    static AssertionError withDetail(AssertionError e, String detail) {
+        AssertionError detailed =
+            new AssertionError(
+                format("%s%n%s", e.getMessage(), detail),
+                e.getCause());
+        detailed.setStackTrace(e.getStackTrace());
+        return detailed;
+    }
 }
@@ -25,28 +25,41 @@
 
 package com.pholser.junit.quickcheck.runner;
 
+import static com.pholser.junit.quickcheck.Lifecycle.PER_PROPERTY;
+import static com.pholser.junit.quickcheck.Mode.EXHAUSTIVE;
+import static com.pholser.junit.quickcheck.internal.Reflection.instantiate;
 import static com.pholser.junit.quickcheck.runner.PropertyFalsified.counterexampleFound;
+import static com.pholser.junit.quickcheck.runner.PropertyFalsified.withDetail;
+import static java.util.concurrent.Executors.newFixedThreadPool;
 import static java.util.stream.Collectors.toList;
 
+import com.pholser.junit.quickcheck.CounterexampleStore;
+import com.pholser.junit.quickcheck.Fingerprint;
 import com.pholser.junit.quickcheck.Property;
+import com.pholser.junit.quickcheck.internal.Checkpoint;
 import com.pholser.junit.quickcheck.internal.GeometricDistribution;
 import com.pholser.junit.quickcheck.internal.ParameterSampler;
 import com.pholser.junit.quickcheck.internal.ParameterTypeContext;
 import com.pholser.junit.quickcheck.internal.PropertyParameterContext;
 import com.pholser.junit.quickcheck.internal.SeededValue;
+import com.pholser.junit.quickcheck.internal.Seeds;
 import com.pholser.junit.quickcheck.internal.ShrinkControl;
+import com.pholser.junit.quickcheck.internal.TrialControl;
 import com.pholser.junit.quickcheck.internal.generator.GeneratorRepository;
 import com.pholser.junit.quickcheck.internal.generator.PropertyParameterGenerationContext;
 import com.pholser.junit.quickcheck.internal.sampling.ExhaustiveParameterSampler;
 import com.pholser.junit.quickcheck.internal.sampling.TupleParameterSampler;
-import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 import java.lang.reflect.Parameter;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Random;
-import java.util.stream.Stream;
-import org.junit.internal.AssumptionViolatedException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
 import org.junit.runners.model.FrameworkMethod;
 import org.junit.runners.model.InitializationError;
 import org.junit.runners.model.Statement;
@@ -60,11 +73,8 @@ class PropertyStatement extends Statement {
     private final TestClass testClass;
     private final GeneratorRepository repo;
     private final GeometricDistribution distro;
-    private final List<AssumptionViolatedException> assumptionViolations;
     private final Logger logger;
 
-    private int successes;
-
     PropertyStatement(
         FrameworkMethod method,
         TestClass testClass,
@@ -76,47 +86,374 @@ class PropertyStatement extends Statement {
         this.testClass = testClass;
         this.repo = repo;
         this.distro = distro;
-        assumptionViolations = new ArrayList<>();
         this.logger = logger;
     }
 
     @Override public void evaluate() throws Throwable {
         Property marker = method.getAnnotation(Property.class);
-        ParameterSampler sampler = sampler(marker);
+        PropertyVerifier verifier = new PropertyVerifier(testClass, method);
+
+        if (marker.lifecycle() == PER_PROPERTY) {
+            verifier.verifyPerProperty(new Statement() {
+                @Override public void evaluate() throws Throwable {
+                    verifyProperty(marker, verifier);
+                }
+            });
+        } else {
+            verifyProperty(marker, verifier);
+        }
+    }
+
+    private void verifyProperty(Property marker, PropertyVerifier verifier)
+        throws Throwable {
+
+        String property = testClass.getName() + '#' + method.getName();
+        TrialControl trialControl = new TrialControl(marker, property);
         ShrinkControl shrinkControl = new ShrinkControl(marker);
+        TrialOutcomes outcomes = new TrialOutcomes();
+        TupleCache seen;
+
+        if (marker.mode() == EXHAUSTIVE) {
+            seen = new TupleCache(0, null);
+            verifyExhaustively(
+                new ExhaustiveParameterSampler(marker.trials()),
+                trialControl,
+                verifier,
+                seen,
+                outcomes);
+        } else {
+            seen =
+                new TupleCache(
+                    marker.trialCacheSize(),
+                    marker.trialFingerprint() == Fingerprint.class
+                        ? null
+                        : instantiate(marker.trialFingerprint()));
+            trialControl =
+                verifySampling(
+                    marker,
+                    property,
+                    trialControl,
+                    verifier,
+                    seen,
+                    outcomes);
+        }
+
+        if (seen.skipped() > 0) {
+            logger.info(
+                "Skipped {} trials of property {} from {} whose arguments"
+                    + " had already been verified",
+                seen.skipped(),
+                method.getName(),
+                testClass.getName());
+        }
+
+        try {
+            if (outcomes.failed())
+                reportFailure(outcomes.failure(), verifier, shrinkControl);
+        } catch (AssertionError e) {
+            throw withDetails(e, trialControl, seen, outcomes);
+        }
+
+        outcomes.ensureAssumptionsSatisfied();
+
+        if (trialControl.timeBudgeted()) {
+            logger.info(
+                "Verified property {} from {} with {} trials",
+                method.getName(),
+                testClass.getName(),
+                outcomes.verified());
+        }
+    }
+
+    private void verifyExhaustively(
+        ExhaustiveParameterSampler sampler,
+        TrialControl trialControl,
+        PropertyVerifier verifier,
+        TupleCache seen,
+        TrialOutcomes outcomes) {
+
+        Iterator<List<SeededValue>> sample =
+            sampler.sample(parameterContexts(sampler, trialControl))
+                .iterator();
+        Checkpoint checkpoint = trialControl.checkpoint();
+        int resumeFrom = trialControl.resumeFrom();
+        if (resumeFrom > 0) {
+            logger.info(
+                "Resuming property {} from {} at tuple {}",
+                method.getName(),
+                testClass.getName(),
+                resumeFrom);
+        }
+
+        int index = 0;
+        try {
+            for (; sample.hasNext() && !outcomes.failed(); ++index) {
+                if (index >= resumeFrom && trialControl.covers(index)) {
+                    verifyTrial(
+                        verifier,
+                        index,
+                        i -> sample.next(),
+                        seen,
+                        outcomes);
+                    if (checkpoint != null)
+                        checkpoint.reached(trialControl.seed(), index + 1);
+                } else {
+                    sample.next();
+                }
+            }
+        } finally {
+            if (checkpoint != null) {
+                if (outcomes.failed()) {
+                    checkpoint.save(
+                        trialControl.seed(),
+                        outcomes.failure().index());
+                } else if (sample.hasNext()) {
+                    checkpoint.save(trialControl.seed(), index);
+                } else {
+                    checkpoint.clear();
+                }
+            }
+        }
+    }
+
+    private TrialControl verifySampling(
+        Property marker,
+        String property,
+        TrialControl trialControl,
+        PropertyVerifier verifier,
+        TupleCache seen,
+        TrialOutcomes outcomes)
+        throws InitializationError, InterruptedException {
+
+        int tuples = enumerableTuples(marker);
+
+        if (trialControl.replaysCounterexamples()) {
+            TrialControl failing =
+                verifyCounterexamples(
+                    marker,
+                    property,
+                    tuples,
+                    trialControl,
+                    verifier,
+                    seen,
+                    outcomes);
+            if (failing != null)
+                return failing;
+        }
+
+        verifyTrials(marker, tuples, trialControl, verifier, seen, outcomes);
+        if (tuples > 0 && tuples < marker.trials()) {
+            logger.info(
+                "Verified property {} from {} with all {} tuples of its"
+                    + " parameters' values, {} fewer than its trials",
+                method.getName(),
+                testClass.getName(),
+                tuples,
+                marker.trials() - tuples);
+        }
+
+        if (outcomes.failed()) {
+            trialControl.counterexampleStore().save(
+                property,
+                trialControl.counterexampleOf(outcomes.failure().index()));
+        }
+
+        return trialControl;
+    }
+
+    private TrialControl verifyCounterexamples(
+        Property marker,
+        String property,
+        int tuples,
+        TrialControl trialControl,
+        PropertyVerifier verifier,
+        TupleCache seen,
+        TrialOutcomes outcomes)
+        throws InitializationError, InterruptedException {
+
+        CounterexampleStore store = trialControl.counterexampleStore();
+        for (String counterexample : store.load(property)) {
+            TrialControl replay;
+            try {
+                replay = trialControl.replaying(counterexample);
+            } catch (IllegalArgumentException ex) {
+                store.delete(property, counterexample);
+                continue;
+            }
+
+            verifyTrials(marker, tuples, replay, verifier, seen, outcomes);
+            if (outcomes.failed())
+                return replay;
+
+            store.delete(property, counterexample);
+        }
+
+        return null;
+    }
+
+    private void verifyTrials(
+        Property marker,
+        int tuples,
+        TrialControl trialControl,
+        PropertyVerifier verifier,
+        TupleCache seen,
+        TrialOutcomes outcomes)
+        throws InitializationError, InterruptedException {
+
+        if (tuples > 0) {
+            verifyExhaustively(
+                new ExhaustiveParameterSampler(marker.trials()),
+                trialControl,
+                verifier,
+                seen,
+                outcomes);
+            return;
+        }
+
+        TupleParameterSampler sampler =
+            new TupleParameterSampler(
+                marker.trials(),
+                trialControl.maxTrials());
+        if (trialControl.parallelism() > 1) {
+            verifyInParallel(sampler, trialControl, verifier, seen, outcomes);
+        } else {
+            verifySequentially(
+                sampler,
+                trialControl,
+                verifier,
+                seen,
+                outcomes);
+        }
+    }
+
+    /*
+     * Gives how many tuples of arguments the property has, when each of its
+     * parameters takes values from a known domain and no more tuples than
+     * trials are needed to cover them all; otherwise, zero.
+     */
+    private int enumerableTuples(Property marker) {
+        Parameter[] parameters = method.getMethod().getParameters();
+        if (!marker.enumerateFiniteDomains()
+            || parameters.length == 0
+            || marker.duration() > 0) {
+
+            return 0;
+        }
 
         MethodGenericsContext generics =
             GenericsResolver.resolve(testClass.getJavaClass())
                 .method(method.getMethod());
-        List<PropertyParameterGenerationContext> paramContexts =
-            Arrays.stream(method.getMethod().getParameters())
-                .map(p -> parameterContextFor(p, generics))
-                .map(p -> new PropertyParameterGenerationContext(
-                    p,
-                    repo,
-                    distro,
-                    new SourceOfRandomness(new Random()),
-                    sampler
-                ))
-                .collect(toList());
+        long tuples = 1;
+        for (Parameter each : parameters) {
+            PropertyParameterContext parameter =
+                parameterContextFor(each, generics);
+            int domainSize =
+                ExhaustiveParameterSampler.domainSize(
+                    parameter.typeContext());
+            if (parameter.constraint() != null || domainSize < 0)
+                return 0;
+
+            tuples *= domainSize;
+            if (tuples > marker.trials())
+                return 0;
+        }
+
+        return (int) tuples;
+    }
 
-        Stream<List<SeededValue>> sample = sampler.sample(paramContexts);
-        for (List<SeededValue> args :
-                (Iterable<List<SeededValue>>) sample::iterator) {
+    private void verifySequentially(
+        TupleParameterSampler sampler,
+        TrialControl trialControl,
+        PropertyVerifier verifier,
+        TupleCache seen,
+        TrialOutcomes outcomes) {
 
-            property(args, shrinkControl).verify();
+        List<PropertyParameterGenerationContext> params =
+            parameterContexts(sampler, trialControl);
+        IntFunction<List<SeededValue>> tuples = i -> sampler.tuple(params, i);
+
+        for (int slot = 0;
+            !outcomes.failed()
+                && trialControl.shouldVerify(trialControl.trial(slot));
+            ++slot) {
+
+            verifyTrial(
+                verifier,
+                trialControl.trial(slot),
+                tuples,
+                seen,
+                outcomes);
         }
+    }
+
+    private void verifyInParallel(
+        TupleParameterSampler sampler,
+        TrialControl trialControl,
+        PropertyVerifier original,
+        TupleCache seen,
+        TrialOutcomes outcomes)
+        throws InitializationError, InterruptedException {
+
+        int parallelism = trialControl.parallelism();
+
+        AtomicInteger nextSlot = new AtomicInteger();
+        List<Callable<Void>> lanes = new ArrayList<>();
+        for (int i = 0; i < parallelism; ++i) {
+            List<PropertyParameterGenerationContext> params =
+                parameterContexts(sampler, trialControl);
+            IntFunction<List<SeededValue>> tuples =
+                t -> sampler.tuple(params, t);
+            PropertyVerifier verifier = original.copy();
+
+            lanes.add(() -> {
+                int trial = trialControl.trial(nextSlot.getAndIncrement());
+                while (trialControl.shouldVerify(trial)
+                    && !outcomes.failedBefore(trial)) {
+
+                    verifyTrial(verifier, trial, tuples, seen, outcomes);
+                    trial = trialControl.trial(nextSlot.getAndIncrement());
+                }
+                return null;
+            });
+        }
+
+        ExecutorService workers =
+            newFixedThreadPool(parallelism, trialThreads());
+        try {
+            workers.invokeAll(lanes);
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private void verifyTrial(
+        PropertyVerifier verifier,
+        int index,
+        IntFunction<List<SeededValue>> arguments,
+        TupleCache seen,
+        TrialOutcomes outcomes) {
+
+        try {
+            List<SeededValue> tuple = arguments.apply(index);
+            if (seen.enabled()
+                && seen.alreadyVerified(
+                    tuple.stream().map(SeededValue::value).toArray())) {
+
+                return;
+            }
 
-        if (successes == 0 && !assumptionViolations.isEmpty()) {
-            throw new NoValuesSatisfiedPropertyAssumptions(
-                assumptionViolations);
+            verify(verifier, index, tuple, outcomes);
+        } catch (Throwable e) {
+            outcomes.failed(FailedTrial.errored(index, e));
         }
     }
 
-    private PropertyVerifier property(
+    private void verify(
+        PropertyVerifier verifier,
+        int index,
         List<SeededValue> arguments,
-        ShrinkControl shrinkControl)
-        throws InitializationError {
+        TrialOutcomes outcomes)
+        throws Throwable {
 
         if (logger.isDebugEnabled()) {
             logger.debug(
@@ -126,55 +463,74 @@ class PropertyStatement extends Statement {
             logger.debug("{}", Arrays.deepToString(arguments.toArray()));
         }
 
-        List<PropertyParameterGenerationContext> params =
-            arguments.stream().map(SeededValue::parameter).collect(toList());
         Object[] args = arguments.stream().map(SeededValue::value).toArray();
         long[] seeds =
             arguments.stream().mapToLong(SeededValue::seed).toArray();
 
-        return new PropertyVerifier(
-            testClass,
-            method,
+        verifier.verify(
             args,
             seeds,
-            s -> ++successes,
-            assumptionViolations::add,
-            (e, action) -> {
-                if (!shrinkControl.shouldShrink()) {
-                    shrinkControl.onMinimalCounterexample()
-                        .handle(args, action);
-                    throw counterexampleFound(
-                        method.getName(),
-                        args,
-                        seeds,
-                        e);
-                }
-
-                try {
-                    shrink(params, args, seeds, shrinkControl, e);
-                } catch (AssertionError ex) {
-                    throw ex;
-                } catch (Throwable ex) {
-                    throw new AssertionError(ex);
-                }
-            }
-        );
+            s -> outcomes.succeeded(),
+            outcomes::assumptionViolated,
+            (e, action) ->
+                outcomes.failed(
+                    FailedTrial.falsified(index, arguments, e, action)));
     }
 
-    private void shrink(
-        List<PropertyParameterGenerationContext> params,
-        Object[] args,
-        long[] seeds,
-        ShrinkControl shrinkControl,
-        AssertionError failure)
+    private void reportFailure(
+        FailedTrial trial,
+        PropertyVerifier verifier,
+        ShrinkControl shrinkControl)
         throws Throwable {
 
-        new Shrinker(
-            method,
-            testClass,
-            failure,
-            shrinkControl)
-            .shrink(params, args, seeds);
+        if (trial.errored())
+            throw trial.error();
+
+        Object[] args = trial.args();
+        long[] seeds = trial.seeds();
+
+        if (!shrinkControl.shouldShrink()) {
+            shrinkControl.onMinimalCounterexample()
+                .handle(args, trial.repeat());
+            throw counterexampleFound(
+                method.getName(),
+                args,
+                seeds,
+                trial.failure());
+        }
+
+        try {
+            new Shrinker(verifier, method, trial.failure(), shrinkControl)
+                .shrink(trial.params(), args, seeds, trial.choices());
+        } catch (AssertionError ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new AssertionError(ex);
+        }
+    }
+
+    private List<PropertyParameterGenerationContext> parameterContexts(
+        ParameterSampler sampler,
+        TrialControl trialControl) {
+
+        long seed = trialControl.seed();
+        GeneratorRepository generators =
+            repo.withRandom(
+                trialControl.newRandom(Seeds.repositorySeed(seed)));
+        MethodGenericsContext generics =
+            GenericsResolver.resolve(testClass.getJavaClass())
+                .method(method.getMethod());
+        Parameter[] parameters = method.getMethod().getParameters();
+        return IntStream.range(0, parameters.length)
+            .mapToObj(i -> new PropertyParameterGenerationContext(
+                parameterContextFor(parameters[i], generics),
+                generators,
+                distro,
+                trialControl.newRandom(Seeds.parameterSeed(seed, i)),
+                sampler,
+                trialControl.recordsChoices()
+            ))
+            .collect(toList());
     }
 
     private PropertyParameterContext parameterContextFor(
@@ -187,15 +543,53 @@ class PropertyStatement extends Statement {
         ).annotate(parameter);
     }
 
-    private ParameterSampler sampler(Property marker) {
-        switch (marker.mode()) {
-            case SAMPLING:
-                return new TupleParameterSampler(marker.trials());
-            case EXHAUSTIVE:
-                return new ExhaustiveParameterSampler(marker.trials());
-            default:
-                throw new AssertionError(
-                    "Don't recognize mode " + marker.mode());
+    private AssertionError withDetails(
+        AssertionError e,
+        TrialControl trialControl,
+        TupleCache seen,
+        TrialOutcomes outcomes) {
+
+        AssertionError detailed = e;
+        if (trialControl.replayable()) {
+            detailed =
+                withDetail(
+                    detailed,
+                    "Replay with: "
+                        + trialControl.replayOf(outcomes.failure().index()));
+        }
+        if (trialControl.sharded()) {
+            detailed =
+                withDetail(
+                    detailed,
+                    "Rerun shard with: " + trialControl.shardOf());
+        }
+        if (trialControl.timeBudgeted()) {
+            detailed =
+                withDetail(
+                    detailed,
+                    String.format("Trials run: %d", outcomes.verified()));
         }
+        if (seen.skipped() > 0) {
+            detailed =
+                withDetail(
+                    detailed,
+                    String.format(
+                        "Trials skipped as already verified: %d",
+                        seen.skipped()));
+        }
+        return detailed;
+    }
+
+    private ThreadFactory trialThreads() {
+        AtomicInteger count = new AtomicInteger();
+        return r -> {
+            Thread worker =
+                new Thread(
+                    r,
+                    "junit-quickcheck-" + method.getName()
+                        + '-' + count.incrementAndGet());
+            worker.setDaemon(true);
+            return worker;
+        };
     }
 }
@@ -25,73 +25,224 @@
 
 package com.pholser.junit.quickcheck.runner;
 
+import static com.pholser.junit.quickcheck.internal.Reflection.maybeWrap;
+import static java.lang.invoke.MethodType.methodType;
+
+import com.pholser.junit.quickcheck.BeforeTrial;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
 import org.junit.internal.AssumptionViolatedException;
+import org.junit.internal.runners.model.ReflectiveCallable;
 import org.junit.runners.BlockJUnit4ClassRunner;
 import org.junit.runners.model.FrameworkMethod;
 import org.junit.runners.model.InitializationError;
+import org.junit.runners.model.MultipleFailureException;
 import org.junit.runners.model.Statement;
 import org.junit.runners.model.TestClass;
 
+/**
+ * Verifies a property method against sets of arguments. An instance is
+ * made once per property method (per thread, when trials are verified in
+ * parallel) and reused for every trial and shrink attempt, so that the
+ * scanning of the test class for fixtures and rules happens only once.
+ * Each verification still gets a fresh test class instance, with its
+ * {@code @Before}/{@code @After} methods and rules wrapped around the
+ * invocation of the property method -- unless the verifications happen
+ * {@linkplain #verifyPerProperty(Statement) within the fixtures of a single
+ * test class instance}, which copies of the verifier then share. For test
+ * classes without rules, the statement chain wrapped around each
+ * verification is also built only once.
+ */
 class PropertyVerifier extends BlockJUnit4ClassRunner {
     private final FrameworkMethod method;
-    private final Object[] args;
-    private final long[] seeds;
-    private final Consumer<Void> onSuccess;
-    private final Consumer<AssumptionViolatedException> onAssumptionViolated;
-    private final BiConsumer<AssertionError, Runnable> onFailure;
+    private final MethodHandle invoker;
+    private final AtomicReference<Object> shared;
+    private final List<FrameworkMethod> beforeTrials;
+    private final Statement block;
+
+    private Object[] args;
+    private Statement perProperty;
+
+    PropertyVerifier(TestClass clazz, FrameworkMethod method)
+        throws InitializationError {
 
-    PropertyVerifier(
+        this(clazz, method, invokerFor(method), new AtomicReference<>());
+    }
+
+    private PropertyVerifier(
         TestClass clazz,
         FrameworkMethod method,
-        Object[] args,
+        MethodHandle invoker,
+        AtomicReference<Object> shared)
+        throws InitializationError {
+
+        super(clazz.getJavaClass());
+
+        this.method = method;
+        this.invoker = invoker;
+        this.shared = shared;
+        this.beforeTrials =
+            getTestClass().getAnnotatedMethods(BeforeTrial.class);
+        this.block = hasRules() ? null : reusableBlock();
+    }
+
+    PropertyVerifier copy() throws InitializationError {
+        return new PropertyVerifier(getTestClass(), method, invoker, shared);
+    }
+
+    /*
+     * Binds a handle taking the test class instance and the array of
+     * arguments, which it spreads (and unboxes, for primitive parameters)
+     * into the property method's parameters; so trials bypass the access
+     * checks and wrapping of exceptions of reflective invocation. Falls back
+     * to reflective invocation if the method cannot be accessed this way.
+     */
+    private static MethodHandle invokerFor(FrameworkMethod method) {
+        Method property = method.getMethod();
+        try {
+            return MethodHandles.publicLookup()
+                .unreflect(property)
+                .asSpreader(Object[].class, property.getParameterCount())
+                .asType(methodType(void.class, Object.class, Object[].class));
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    /*
+     * Makes one test class instance and evaluates the given verifications
+     * within its fixtures; while they run, every verification invokes the
+     * property method on that instance.
+     */
+    void verifyPerProperty(Statement verifications) throws Throwable {
+        Statement block;
+        perProperty = verifications;
+        try {
+            block = super.methodBlock(method);
+        } finally {
+            perProperty = null;
+        }
+
+        block.evaluate();
+    }
+
+    void verify(
+        Object[] arguments,
         long[] seeds,
         Consumer<Void> onSuccess,
         Consumer<AssumptionViolatedException> onAssumptionViolated,
         BiConsumer<AssertionError, Runnable> onFailure)
-        throws InitializationError {
+        throws Throwable {
 
-        super(clazz.getJavaClass());
+        Object test = shared.get();
+        Statement statement;
+        if (test != null)
+            statement = trial(test, arguments);
+        else if (block != null)
+            statement = withArguments(arguments);
+        else
+            statement = methodBlock(arguments);
 
-        this.method = method;
-        this.args = args;
-        this.seeds = seeds;
-        this.onSuccess = onSuccess;
-        this.onAssumptionViolated = onAssumptionViolated;
-        this.onFailure = onFailure;
+        try {
+            statement.evaluate();
+            onSuccess.accept(null);
+        } catch (AssumptionViolatedException e) {
+            onAssumptionViolated.accept(e);
+        } catch (AssertionError e) {
+            Runnable repeat = () -> {
+                try {
+                    statement.evaluate();
+                } catch (Throwable ignored) {
+                }
+            };
+            onFailure.accept(e, repeat);
+        } catch (Throwable t) {
+            reportErrorWithArguments(arguments, seeds, t);
+        }
     }
 
-    void verify() throws Throwable {
-        methodBlock().evaluate();
+    private boolean hasRules() {
+        return !getTestClass().getAnnotatedFields(Rule.class).isEmpty()
+            || !getTestClass().getAnnotatedMethods(Rule.class).isEmpty();
     }
 
-    private Statement methodBlock() {
-        Statement statement = super.methodBlock(method);
+    /*
+     * What methodBlock builds for each verification when there are no
+     * rules -- make a test class instance, run its @Before methods, invoke
+     * the property method, and run its @After methods whatever happens --
+     * built once; each evaluation makes its own instance and takes the
+     * arguments then in effect.
+     */
+    private Statement reusableBlock() {
+        List<FrameworkMethod> befores =
+            getTestClass().getAnnotatedMethods(Before.class);
+        List<FrameworkMethod> afters =
+            getTestClass().getAnnotatedMethods(After.class);
+
         return new Statement() {
-            @Override public void evaluate() {
+            @Override public void evaluate() throws Throwable {
+                Object test =
+                    new ReflectiveCallable() {
+                        @Override protected Object runReflectiveCall()
+                            throws Throwable {
+
+                            return createTest(method);
+                        }
+                    }.run();
+
+                List<Throwable> errors = new ArrayList<>();
                 try {
-                    statement.evaluate();
-                    onSuccess.accept(null);
-                } catch (AssumptionViolatedException e) {
-                    onAssumptionViolated.accept(e);
-                } catch (AssertionError e) {
-                    Runnable repeat = () -> {
+                    for (FrameworkMethod each : befores)
+                        each.invokeExplosively(test);
+                    trial(test, args).evaluate();
+                } catch (Throwable t) {
+                    errors.add(t);
+                } finally {
+                    for (FrameworkMethod each : afters) {
                         try {
-                            statement.evaluate();
-                        } catch (Throwable ignored) {
+                            each.invokeExplosively(test);
+                        } catch (Throwable t) {
+                            errors.add(t);
                         }
-                    };
-                    onFailure.accept(e, repeat);
-                } catch (Throwable t) {
-                    reportErrorWithArguments(t);
+                    }
+                }
+                MultipleFailureException.assertEmpty(errors);
+            }
+        };
+    }
+
+    private Statement withArguments(Object[] arguments) {
+        return new Statement() {
+            @Override public void evaluate() throws Throwable {
+                args = arguments;
+                try {
+                    block.evaluate();
+                } finally {
+                    args = null;
                 }
             }
         };
     }
 
+    private Statement methodBlock(Object[] arguments) {
+        args = arguments;
+        try {
+            return super.methodBlock(method);
+        } finally {
+            args = null;
+        }
+    }
+
     @Override protected void collectInitializationErrors(
         List<Throwable> errors) {
 
@@ -102,19 +253,77 @@ class PropertyVerifier extends BlockJUnit4ClassRunner {
         FrameworkMethod frameworkMethod,
         Object test) {
 
+        Statement verifications = perProperty;
+        if (verifications != null) {
+            return new Statement() {
+                @Override public void evaluate() throws Throwable {
+                    shared.set(test);
+                    try {
+                        verifications.evaluate();
+                    } finally {
+                        shared.set(null);
+                    }
+                }
+            };
+        }
+
+        return trial(test, args);
+    }
+
+    private Statement trial(Object test, Object[] arguments) {
         return new Statement() {
             @Override public void evaluate() throws Throwable {
-                frameworkMethod.invokeExplosively(test, args);
+                for (FrameworkMethod each : beforeTrials)
+                    each.invokeExplosively(test);
+
+                if (invoker == null)
+                    method.invokeExplosively(test, arguments);
+                else
+                    invoke(test, arguments);
             }
         };
     }
 
-    private void reportErrorWithArguments(Throwable e) {
+    /*
+     * Reflective invocation reports arguments that do not fit the property
+     * method's parameters with IllegalArgumentException, where the invoker's
+     * spreader throws ClassCastException or NullPointerException; so such
+     * exceptions are checked against the arguments, once thrown, and
+     * reported the same way.
+     */
+    private void invoke(Object test, Object[] arguments) throws Throwable {
+        try {
+            invoker.invokeExact(test, arguments);
+        } catch (ClassCastException | NullPointerException e) {
+            if (fit(arguments))
+                throw e;
+            throw new IllegalArgumentException("argument type mismatch", e);
+        }
+    }
+
+    private boolean fit(Object[] arguments) {
+        Class<?>[] parameterTypes = method.getMethod().getParameterTypes();
+        for (int i = 0; i < parameterTypes.length; ++i) {
+            boolean fits =
+                arguments[i] == null
+                    ? !parameterTypes[i].isPrimitive()
+                    : maybeWrap(parameterTypes[i]).isInstance(arguments[i]);
+            if (!fits)
+                return false;
+        }
+        return true;
+    }
+
+    private void reportErrorWithArguments(
+        Object[] arguments,
+        long[] seeds,
+        Throwable e) {
+
         throw new AssertionError(
             String.format(
                 "Unexpected error in property %s with args %s and seeds %s",
                 method.getName(),
-                Arrays.deepToString(args),
+                Arrays.deepToString(arguments),
                 Arrays.toString(seeds)),
             e);
     }
@@ -0,0 +1,114 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2020 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.runner;
+
+import static java.lang.String.format;
+
+import com.pholser.junit.quickcheck.Fingerprint;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+final class ShrinkCache {
+    private final int capacity;
+    private final Fingerprint fingerprint;
+    private final Map<Object, Boolean> tried;
+
+    private int hits;
+    private int misses;
+
+    ShrinkCache(int capacity, Fingerprint fingerprint) {
+        this.capacity = capacity;
+        this.fingerprint = fingerprint;
+        this.tried = new LinkedHashMap<Object, Boolean>(16, 0.75F, true) {
+            private static final long serialVersionUID = Long.MIN_VALUE;
+
+            @Override protected boolean removeEldestEntry(
+                Map.Entry<Object, Boolean> eldest) {
+
+                return size() > ShrinkCache.this.capacity;
+            }
+        };
+    }
+
+    void remember(Object[] args) {
+        if (capacity > 0)
+            tried.put(keyOf(args), true);
+    }
+
+    boolean alreadyTried(Object[] args) {
+        if (capacity <= 0)
+            return false;
+
+        if (tried.putIfAbsent(keyOf(args), true) != null) {
+            ++hits;
+            return true;
+        }
+
+        ++misses;
+        return false;
+    }
+
+    void forget(Object[] args) {
+        if (capacity > 0 && tried.remove(keyOf(args)) != null)
+            --misses;
+    }
+
+    int hits() {
+        return hits;
+    }
+
+    String report() {
+        int lookups = hits + misses;
+        return format(
+            "Shrink candidates already tried: %d of %d (%.1f%%)",
+            hits,
+            lookups,
+            100.0 * hits / lookups);
+    }
+
+    private Object keyOf(Object[] args) {
+        return new Arguments(
+            fingerprint == null ? args : new Object[] { fingerprint.of(args) });
+    }
+
+    private static final class Arguments {
+        private final Object[] values;
+
+        Arguments(Object[] values) {
+            this.values = values;
+        }
+
+        @Override public boolean equals(Object o) {
+            return o instanceof Arguments
+                && Arrays.deepEquals(values, ((Arguments) o).values);
+        }
+
+        @Override public int hashCode() {
+            return Arrays.deepHashCode(values);
+        }
+    }
+}
@@ -27,84 +27,110 @@ package com.pholser.junit.quickcheck.runner;
 
 import static com.pholser.junit.quickcheck.runner.PropertyFalsified.counterexampleFound;
 import static com.pholser.junit.quickcheck.runner.PropertyFalsified.smallerCounterexampleFound;
-import static java.util.Comparator.comparing;
-import static java.util.function.Function.identity;
-import static java.util.stream.Collectors.toList;
+import static com.pholser.junit.quickcheck.internal.Sequences.flatMapLazily;
 
 import com.pholser.junit.quickcheck.internal.generator.PropertyParameterGenerationContext;
-import java.math.BigDecimal;
 import java.util.Arrays;
-import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import org.junit.runners.model.FrameworkMethod;
-import org.junit.runners.model.InitializationError;
-import org.junit.runners.model.TestClass;
 
 final class ShrinkNode implements Comparable<ShrinkNode> {
+    private final PropertyVerifier verifier;
     private final FrameworkMethod method;
-    private final TestClass testClass;
     private final List<PropertyParameterGenerationContext> params;
     private final Object[] args;
     private final long[] seeds;
+    private final long[][] choices;
     private final int[] depths;
     private final int totalDepth;
-    private final BigDecimal totalMagnitude;
+
+    private double[] magnitudes;
 
     private AssertionError failure;
 
     private ShrinkNode(
+        PropertyVerifier verifier,
         FrameworkMethod method,
-        TestClass testClass,
         List<PropertyParameterGenerationContext> params,
         Object[] args,
         long[] seeds,
+        long[][] choices,
         int[] depths,
         AssertionError failure) {
 
+        this.verifier = verifier;
         this.method = method;
-        this.testClass = testClass;
         this.params = params;
         this.args = args;
         this.seeds = seeds;
+        this.choices = choices;
         this.depths = depths;
         this.totalDepth = IntStream.of(depths).sum();
-        this.totalMagnitude = computeTotalMagnitude();
 
         this.failure = failure;
     }
 
     static ShrinkNode root(
+        PropertyVerifier verifier,
         FrameworkMethod method,
-        TestClass testClass,
         List<PropertyParameterGenerationContext> params,
         Object[] args,
         long[] seeds,
+        long[][] choices,
         AssertionError failure) {
 
         return new ShrinkNode(
+            verifier,
             method,
-            testClass,
             params,
             args,
             seeds,
+            choices,
             new int[args.length],
             failure);
     }
 
-    List<ShrinkNode> shrinks() {
-        return IntStream.range(0, params.size())
-            .mapToObj(i -> params.get(i).shrink(args[i]).stream()
-                .filter(o -> !o.equals(args[i]))
-                .map(o -> shrinkNodeFor(o, i)))
-            .flatMap(identity())
-            .collect(toList());
+    Iterator<ShrinkNode> shrinks() {
+        return flatMapLazily(
+            IntStream.range(0, params.size()).boxed(),
+            this::shrinksAt)
+            .iterator();
+    }
+
+    private Stream<ShrinkNode> shrinksAt(int index) {
+        PropertyParameterGenerationContext param = params.get(index);
+
+        // Each shrink of recorded choices is simpler than the last, so
+        // shrinking them ends without counting toward the depth limit.
+        if (choices[index] != null) {
+            return param.shrinkChoices(args[index], choices[index])
+                .map(r -> shrinkNodeFor(r.value(), r.choices(), index, 0));
+        }
+
+        return param.shrinkLazily(args[index])
+            .filter(o -> !o.equals(args[index]))
+            .map(o -> shrinkNodeFor(o, null, index, 1));
     }
 
     boolean verifyProperty() throws Throwable {
+        return verifyProperty(verifier);
+    }
+
+    boolean verifyProperty(PropertyVerifier verifier) throws Throwable {
         boolean[] result = new boolean[1];
 
-        property(result).verify();
+        verifier.verify(
+            args,
+            seeds,
+            s -> result[0] = true,
+            v -> result[0] = true,
+            (e, repeatTestOption) -> {
+                failure = e;
+                result[0] = false;
+            });
 
         return result[0];
     }
@@ -136,59 +162,42 @@ final class ShrinkNode implements Comparable<ShrinkNode> {
         return totalDepth;
     }
 
-    BigDecimal magnitude() {
-        return totalMagnitude;
-    }
-
-    private PropertyVerifier property(boolean[] result)
-        throws InitializationError {
+    private ShrinkNode shrinkNodeFor(
+        Object shrunk,
+        long[] shrunkChoices,
+        int index,
+        int deeper) {
 
-        return new PropertyVerifier(
-            testClass,
-            method,
-            args,
-            seeds,
-            s -> result[0] = true,
-            v -> result[0] = true,
-            (e, repeatTestOption) -> {
-                failure = e;
-                result[0] = false;
-            });
-    }
-
-    private ShrinkNode shrinkNodeFor(Object shrunk, int index) {
         Object[] shrunkArgs = new Object[args.length];
         System.arraycopy(args, 0, shrunkArgs, 0, args.length);
         shrunkArgs[index] = shrunk;
 
+        long[][] newChoices = choices.clone();
+        newChoices[index] = shrunkChoices;
+
         int[] newDepths = new int[depths.length];
         System.arraycopy(depths, 0, newDepths, 0, depths.length);
-        ++newDepths[index];
+        newDepths[index] += deeper;
 
         return new ShrinkNode(
+            verifier,
             method,
-            testClass,
             params,
             shrunkArgs,
             seeds,
+            newChoices,
             newDepths,
             failure);
     }
 
-    private BigDecimal computeTotalMagnitude() {
-        BigDecimal total = BigDecimal.ZERO;
-
-        for (int i = 0; i < args.length; ++i) {
-            BigDecimal magnitude = magnitudeAt(i);
-            BigDecimal factor = BigDecimal.valueOf(2).pow(args.length - i - 1);
-            total = total.add(magnitude.multiply(factor));
+    private double[] magnitudes() {
+        // Computed on first comparison; most nodes are never compared.
+        if (magnitudes == null) {
+            magnitudes = new double[args.length];
+            for (int i = 0; i < args.length; ++i)
+                magnitudes[i] = params.get(i).doubleMagnitude(args[i]);
         }
-
-        return total;
-    }
-
-    private BigDecimal magnitudeAt(int index) {
-        return params.get(index).magnitude(args[index]);
+        return magnitudes;
     }
 
     @Override public boolean equals(Object o) {
@@ -209,14 +218,13 @@ final class ShrinkNode implements Comparable<ShrinkNode> {
         // Nodes at equal depth needs to compare their args one by one.
         // prefer larger-magnitude args before smaller.
 
-        Comparator<ShrinkNode> comparison = comparing(ShrinkNode::depth);
-        for (int i = 0; i < params.size(); ++i) {
-            int index = i;
-            Comparator<ShrinkNode> byMagnitude =
-                comparing(s -> s.magnitudeAt(index));
-            comparison = comparison.thenComparing(byMagnitude.reversed());
-        }
+        int comparison = Integer.compare(totalDepth, other.totalDepth);
+
+        double[] mine = magnitudes();
+        double[] theirs = other.magnitudes();
+        for (int i = 0; comparison == 0 && i < mine.length; ++i)
+            comparison = Double.compare(theirs[i], mine[i]);
 
-        return comparison.compare(this, other);
+        return comparison;
     }
 }
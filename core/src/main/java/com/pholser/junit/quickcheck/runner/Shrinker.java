@@ -25,69 +25,210 @@
 
 package com.pholser.junit.quickcheck.runner;
 
+import static com.pholser.junit.quickcheck.runner.PropertyFalsified.withDetail;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+
 import com.pholser.junit.quickcheck.MinimalCounterexampleHook;
 import com.pholser.junit.quickcheck.internal.ShrinkControl;
 import com.pholser.junit.quickcheck.internal.generator.PropertyParameterGenerationContext;
-import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.runners.model.FrameworkMethod;
-import org.junit.runners.model.TestClass;
+import org.junit.runners.model.InitializationError;
 
 class Shrinker {
+    private final PropertyVerifier verifier;
     private final FrameworkMethod method;
-    private final TestClass testClass;
     private final AssertionError failure;
     private final int maxShrinks;
     private final int maxShrinkDepth;
     private final int maxShrinkTime;
+    private final int shrinkParallelism;
     private final MinimalCounterexampleHook onMinimalCounterexample;
+    private final ShrinkCache cache;
 
     private int shrinkAttempts;
     private long shrinkTimeout;
 
     Shrinker(
+        PropertyVerifier verifier,
         FrameworkMethod method,
-        TestClass testClass,
         AssertionError failure,
         ShrinkControl shrinkControl) {
 
+        this.verifier = verifier;
         this.method = method;
-        this.testClass = testClass;
         this.failure = failure;
         this.maxShrinks = shrinkControl.maxShrinks();
         this.maxShrinkDepth =
             shrinkControl.maxShrinkDepth() * method.getMethod().getParameterCount();
         this.maxShrinkTime = shrinkControl.maxShrinkTime();
+        this.shrinkParallelism =
+            Math.max(1, shrinkControl.shrinkParallelism());
         this.onMinimalCounterexample = shrinkControl.onMinimalCounterexample();
+        this.cache =
+            new ShrinkCache(
+                shrinkControl.shrinkCacheSize(),
+                shrinkControl.fingerprint());
     }
 
     void shrink(
         List<PropertyParameterGenerationContext> params,
         Object[] args,
-        long[] seeds)
+        long[] seeds,
+        long[][] choices)
         throws Throwable {
 
         ShrinkNode smallest =
-            ShrinkNode.root(method, testClass, params, args, seeds, failure);
-        Queue<ShrinkNode> nodes = new ArrayDeque<>(smallest.shrinks());
+            ShrinkNode.root(
+                verifier,
+                method,
+                params,
+                args,
+                seeds,
+                choices,
+                failure);
+        Iterator<ShrinkNode> nodes = smallest.shrinks();
+        cache.remember(args);
 
         shrinkTimeout = System.currentTimeMillis() + maxShrinkTime;
 
-        while (shouldContinueShrinking(nodes)) {
-            ShrinkNode next = nodes.poll();
+        ExecutorService workers = null;
+        BlockingQueue<PropertyVerifier> lanes = null;
+        if (shrinkParallelism > 1) {
+            workers = newFixedThreadPool(shrinkParallelism, shrinkThreads());
+            lanes = lanes();
+        }
 
-            boolean result = next.verifyProperty();
-            ++shrinkAttempts;
+        try {
+            while (shouldContinueShrinking(smallest, nodes)) {
+                List<ShrinkNode> window = nextWindow(nodes);
+                ShrinkNode failing =
+                    workers == null
+                        ? firstFailing(window)
+                        : firstFailing(window, workers, lanes);
 
-            if (!result) {
-                smallest = next;
-                nodes = new ArrayDeque<>(smallest.shrinks());
+                if (failing != null) {
+                    smallest = failing;
+                    nodes = smallest.shrinks();
+                }
             }
+        } finally {
+            if (workers != null)
+                workers.shutdownNow();
         }
 
         handleMinimalCounterexample(smallest);
-        throw smallest.fail(failure, args);
+        AssertionError minimal = smallest.fail(failure, args);
+        throw cache.hits() > 0 ? withDetail(minimal, cache.report()) : minimal;
+    }
+
+    private List<ShrinkNode> nextWindow(Iterator<ShrinkNode> nodes) {
+        List<ShrinkNode> window = new ArrayList<>(shrinkParallelism);
+        while (window.size() < shrinkParallelism
+            && shrinkAttempts + window.size() < maxShrinks
+            && nodes.hasNext()) {
+
+            ShrinkNode next = nodes.next();
+            if (!cache.alreadyTried(next.args()))
+                window.add(next);
+        }
+        return window;
+    }
+
+    private ShrinkNode firstFailing(List<ShrinkNode> window) throws Throwable {
+        for (ShrinkNode each : window) {
+            boolean result = each.verifyProperty();
+            ++shrinkAttempts;
+
+            if (!result)
+                return each;
+        }
+        return null;
+    }
+
+    private ShrinkNode firstFailing(
+        List<ShrinkNode> window,
+        ExecutorService workers,
+        BlockingQueue<PropertyVerifier> lanes)
+        throws Throwable {
+
+        List<Future<Boolean>> results = new ArrayList<>(window.size());
+        for (ShrinkNode each : window)
+            results.add(workers.submit(() -> verifyOnLane(each, lanes)));
+
+        try {
+            // Candidates are judged in the order they were offered, so that
+            // the outcome does not depend on which verification ends first.
+            for (int i = 0; i < window.size(); ++i) {
+                boolean result = resultOf(results.get(i));
+                ++shrinkAttempts;
+
+                if (!result) {
+                    for (int j = i + 1; j < window.size(); ++j)
+                        cache.forget(window.get(j).args());
+                    return window.get(i);
+                }
+            }
+            return null;
+        } finally {
+            for (Future<Boolean> each : results)
+                each.cancel(true);
+        }
+    }
+
+    private static boolean verifyOnLane(
+        ShrinkNode node,
+        BlockingQueue<PropertyVerifier> lanes)
+        throws Exception {
+
+        PropertyVerifier lane = lanes.take();
+        try {
+            return node.verifyProperty(lane);
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new AssertionError(t);
+        } finally {
+            lanes.add(lane);
+        }
+    }
+
+    private static boolean resultOf(Future<Boolean> result) throws Throwable {
+        try {
+            return result.get();
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        }
+    }
+
+    private BlockingQueue<PropertyVerifier> lanes() throws InitializationError {
+        BlockingQueue<PropertyVerifier> lanes =
+            new ArrayBlockingQueue<>(shrinkParallelism);
+        for (int i = 0; i < shrinkParallelism; ++i)
+            lanes.add(verifier.copy());
+        return lanes;
+    }
+
+    private ThreadFactory shrinkThreads() {
+        AtomicInteger count = new AtomicInteger();
+        return r -> {
+            Thread worker =
+                new Thread(
+                    r,
+                    "junit-quickcheck-" + method.getName()
+                        + "-shrink-" + count.incrementAndGet());
+            worker.setDaemon(true);
+            return worker;
+        };
     }
 
     private void handleMinimalCounterexample(ShrinkNode counterexample) {
@@ -101,10 +242,16 @@ class Shrinker {
         onMinimalCounterexample.handle(counterexample.args(), repeat);
     }
 
-    private boolean shouldContinueShrinking(Queue<ShrinkNode> nodes) {
+    private boolean shouldContinueShrinking(
+        ShrinkNode smallest,
+        Iterator<ShrinkNode> nodes) {
+
+        // Every shrink of the smallest node is one level deeper than it.
+        // Check that before asking for the next shrink, which is produced
+        // on demand.
         return shrinkAttempts < maxShrinks
             && shrinkTimeout >= System.currentTimeMillis()
-            && !nodes.isEmpty()
-            && nodes.peek().depth() <= maxShrinkDepth;
+            && smallest.depth() < maxShrinkDepth
+            && nodes.hasNext();
     }
 }
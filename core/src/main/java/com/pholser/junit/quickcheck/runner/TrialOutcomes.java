@@ -0,0 +1,91 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2020 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.runner;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.internal.AssumptionViolatedException;
+
+/**
+ * Tallies the results of the trials of a property. Trials may be verified
+ * concurrently; when more than one of them fails, the failure of the
+ * earliest trial is the one that gets reported.
+ */
+final class TrialOutcomes {
+    private final AtomicInteger verified = new AtomicInteger();
+    private final AtomicInteger successes = new AtomicInteger();
+    private final List<AssumptionViolatedException> assumptionViolations =
+        Collections.synchronizedList(new ArrayList<>());
+    private final AtomicReference<FailedTrial> failure =
+        new AtomicReference<>();
+
+    void succeeded() {
+        verified.incrementAndGet();
+        successes.incrementAndGet();
+    }
+
+    void assumptionViolated(AssumptionViolatedException e) {
+        verified.incrementAndGet();
+        assumptionViolations.add(e);
+    }
+
+    void failed(FailedTrial trial) {
+        verified.incrementAndGet();
+        failure.accumulateAndGet(
+            trial,
+            (current, next) ->
+                current == null || next.index() < current.index()
+                    ? next
+                    : current);
+    }
+
+    boolean failed() {
+        return failure.get() != null;
+    }
+
+    boolean failedBefore(int index) {
+        FailedTrial current = failure.get();
+        return current != null && current.index() < index;
+    }
+
+    int verified() {
+        return verified.get();
+    }
+
+    FailedTrial failure() {
+        return failure.get();
+    }
+
+    void ensureAssumptionsSatisfied() {
+        if (successes.get() == 0 && !assumptionViolations.isEmpty()) {
+            throw new NoValuesSatisfiedPropertyAssumptions(
+                assumptionViolations);
+        }
+    }
+}
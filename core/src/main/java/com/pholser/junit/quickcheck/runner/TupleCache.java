@@ -0,0 +1,192 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2020 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.runner;
+
+import static com.pholser.junit.quickcheck.internal.Seeds.mix;
+
+import com.pholser.junit.quickcheck.Fingerprint;
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+/*
+ * Remembers the tuples of arguments a property has been verified with, up
+ * to a fixed number of them, in an open-addressed table. Only a pair of
+ * independent 64-bit hashes of each tuple is kept, never the tuple itself, so
+ * the table holds no references into the arguments and later changes to them
+ * do not affect it; two different tuples are taken as the same only if both
+ * hashes collide. Once the table is full, further tuples are no longer
+ * remembered.
+ */
+final class TupleCache {
+    private static final int MAX_CAPACITY = 1 << 24;
+    private static final long CHECK_SALT = 0xc2b2ae3d27d4eb4fL;
+
+    private final int capacity;
+    private final Fingerprint fingerprint;
+    private final long[] hashes;
+    private final long[] checks;
+    private final boolean[] occupied;
+
+    private int size;
+    private int skipped;
+
+    TupleCache(int capacity, Fingerprint fingerprint) {
+        this.capacity = Math.min(Math.max(capacity, 0), MAX_CAPACITY);
+        this.fingerprint = fingerprint;
+        this.hashes = new long[tableSize(this.capacity)];
+        this.checks = new long[hashes.length];
+        this.occupied = new boolean[hashes.length];
+    }
+
+    // A power of two, at least twice the capacity, to keep probes short
+    private static int tableSize(int capacity) {
+        if (capacity == 0)
+            return 0;
+
+        int size = Integer.highestOneBit(capacity);
+        return size << (size < capacity ? 2 : 1);
+    }
+
+    boolean enabled() {
+        return capacity > 0;
+    }
+
+    synchronized boolean alreadyVerified(Object[] args) {
+        if (!enabled())
+            return false;
+
+        Object key = fingerprint == null ? args : fingerprint.of(args);
+        long hash = hash(key);
+        long check = check(key);
+
+        int i = indexOf(hash);
+        for (; occupied[i]; i = next(i)) {
+            if (hashes[i] == hash && checks[i] == check) {
+                ++skipped;
+                return true;
+            }
+        }
+
+        if (size < capacity) {
+            ++size;
+            hashes[i] = hash;
+            checks[i] = check;
+            occupied[i] = true;
+        }
+        return false;
+    }
+
+    synchronized int skipped() {
+        return skipped;
+    }
+
+    private int indexOf(long key) {
+        return (int) (key ^ (key >>> 32)) & (hashes.length - 1);
+    }
+
+    private int next(int index) {
+        return (index + 1) & (hashes.length - 1);
+    }
+
+    static long hash(Object value) {
+        return hash(value, 0);
+    }
+
+    static long check(Object value) {
+        return hash(value, CHECK_SALT);
+    }
+
+    /*
+     * Strings, numbers, arrays and containers of them contribute all of their
+     * bits, rather than only a 32-bit hash code; anything else contributes
+     * its hash code, so values that collide under hashCode() collide under
+     * every salt. Sets and maps are hashed regardless of iteration order.
+     */
+    private static long hash(Object value, long salt) {
+        if (value == null)
+            return mix(1L ^ salt);
+        if (value instanceof Object[])
+            return ordered(Arrays.asList((Object[]) value), salt);
+        if (value.getClass().isArray()) {
+            int length = Array.getLength(value);
+            long h = length;
+            for (int i = 0; i < length; ++i)
+                h = h * 31 + hash(Array.get(value, i), salt);
+            return mix(h);
+        }
+        if (value instanceof Set<?>)
+            return unordered((Set<?>) value, salt);
+        if (value instanceof Map<?, ?>)
+            return unordered(((Map<?, ?>) value).entrySet(), salt);
+        if (value instanceof Map.Entry<?, ?>) {
+            Map.Entry<?, ?> entry = (Map.Entry<?, ?>) value;
+            return mix(
+                hash(entry.getKey(), salt) * 31
+                    + hash(entry.getValue(), salt));
+        }
+        if (value instanceof Collection<?>)
+            return ordered((Collection<?>) value, salt);
+        if (value instanceof CharSequence) {
+            CharSequence chars = (CharSequence) value;
+            long h = chars.length() ^ salt;
+            for (int i = 0; i < chars.length(); ++i)
+                h = (h ^ chars.charAt(i)) * 0x100000001B3L;
+            return mix(h);
+        }
+        if (value instanceof Double || value instanceof Float) {
+            return mix(
+                Double.doubleToLongBits(((Number) value).doubleValue())
+                    ^ salt);
+        }
+        if (value instanceof Long
+            || value instanceof Integer
+            || value instanceof Short
+            || value instanceof Byte) {
+
+            return mix(((Number) value).longValue() ^ salt);
+        }
+        if (value instanceof Character)
+            return mix((Character) value ^ salt);
+        return mix(value.hashCode() ^ salt);
+    }
+
+    private static long ordered(Collection<?> items, long salt) {
+        long h = items.size();
+        for (Object each : items)
+            h = h * 31 + hash(each, salt);
+        return mix(h);
+    }
+
+    private static long unordered(Collection<?> items, long salt) {
+        long h = items.size();
+        for (Object each : items)
+            h += hash(each, salt);
+        return mix(h);
+    }
+}
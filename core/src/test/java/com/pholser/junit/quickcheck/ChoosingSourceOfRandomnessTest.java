@@ -0,0 +1,132 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2020 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertEquals;
+import static org.junit.experimental.results.PrintableResult.testResult;
+import static org.junit.experimental.results.ResultMatchers.hasSingleFailureContaining;
+import static org.junit.experimental.results.ResultMatchers.isSuccessful;
+
+import com.pholser.junit.quickcheck.generator.GenerationStatus;
+import com.pholser.junit.quickcheck.generator.Generator;
+import com.pholser.junit.quickcheck.internal.TrialControl;
+import com.pholser.junit.quickcheck.random.LinearCongruentialRandom;
+import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+import com.pholser.junit.quickcheck.random.SplitMix64Random;
+import com.pholser.junit.quickcheck.random.Xoshiro256StarStarRandom;
+import com.pholser.junit.quickcheck.runner.JUnitQuickcheck;
+import com.pholser.junit.quickcheck.test.generator.Foo;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+public class ChoosingSourceOfRandomnessTest {
+    private static final Set<Class<?>> engines = new HashSet<>();
+
+    @After public void clearEngine() {
+        System.clearProperty(TrialControl.RANDOM_PROPERTY);
+        engines.clear();
+    }
+
+    @Test public void javaUtilRandomCompatibleEngineByDefault() {
+        assertThat(testResult(DefaultEngine.class), isSuccessful());
+        assertEquals(singleton(LinearCongruentialRandom.class), engines);
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class DefaultEngine {
+        @Property public void shouldHold(@From(Recorder.class) Foo f) {
+        }
+    }
+
+    @Test public void enginePerProperty() {
+        assertThat(testResult(ChosenEngine.class), isSuccessful());
+        assertEquals(singleton(Xoshiro256StarStarRandom.class), engines);
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class ChosenEngine {
+        @Property(random = Xoshiro256StarStarRandom.class)
+        public void shouldHold(@From(Recorder.class) Foo f) {
+        }
+    }
+
+    @Test public void engineFromSystemProperty() {
+        System.setProperty(TrialControl.RANDOM_PROPERTY, "splitmix64");
+
+        assertThat(testResult(DefaultEngine.class), isSuccessful());
+        assertEquals(singleton(SplitMix64Random.class), engines);
+    }
+
+    @Test public void engineClassFromSystemProperty() {
+        System.setProperty(
+            TrialControl.RANDOM_PROPERTY,
+            Xoshiro256StarStarRandom.class.getName());
+
+        assertThat(testResult(DefaultEngine.class), isSuccessful());
+        assertEquals(singleton(Xoshiro256StarStarRandom.class), engines);
+    }
+
+    @Test public void propertyOverridesSystemProperty() {
+        System.setProperty(TrialControl.RANDOM_PROPERTY, "splitmix64");
+
+        assertThat(testResult(ChosenEngine.class), isSuccessful());
+        assertEquals(singleton(Xoshiro256StarStarRandom.class), engines);
+    }
+
+    @Test public void unknownEngine() {
+        System.setProperty(TrialControl.RANDOM_PROPERTY, "no.such.Random");
+
+        assertThat(
+            testResult(DefaultEngine.class),
+            hasSingleFailureContaining(
+                "Bad value no.such.Random for junit-quickcheck.random"));
+    }
+
+    public static class Recorder extends Generator<Foo> {
+        public Recorder() {
+            super(Foo.class);
+        }
+
+        @Override public Foo generate(
+            SourceOfRandomness random,
+            GenerationStatus status) {
+
+            engines.add(random.toJDKRandom().getClass());
+            return new Foo(random.nextInt());
+        }
+    }
+
+    private static Set<Class<?>> singleton(Class<?> engine) {
+        Set<Class<?>> expected = new HashSet<>();
+        expected.add(engine);
+        return expected;
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2020 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.experimental.results.PrintableResult.testResult;
+import static org.junit.experimental.results.ResultMatchers.hasSingleFailureContaining;
+import static org.junit.experimental.results.ResultMatchers.isSuccessful;
+
+import com.pholser.junit.quickcheck.generator.Only;
+import com.pholser.junit.quickcheck.internal.TrialControl;
+import com.pholser.junit.quickcheck.runner.JUnitQuickcheck;
+import com.pholser.junit.quickcheck.test.generator.Foo;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Result;
+import org.junit.runner.RunWith;
+
+public class EnumeratingFiniteDomainsTest {
+    private static final Pattern REPLAY =
+        Pattern.compile("-Djunit-quickcheck\\.replay=(-?\\d+:\\d+)");
+
+    public enum Answer { YES, NO, UNSURE }
+
+    @After public void clearReplay() {
+        System.clearProperty(TrialControl.REPLAY_PROPERTY);
+    }
+
+    @Test public void verifiesEachTupleOnce() {
+        BooleansAndEnums.tuples.clear();
+
+        assertThat(testResult(BooleansAndEnums.class), isSuccessful());
+        assertEquals(6, BooleansAndEnums.tuples.size());
+        assertEquals(6, new HashSet<>(BooleansAndEnums.tuples).size());
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class BooleansAndEnums {
+        static final List<String> tuples = new ArrayList<>();
+
+        @Property(trials = 1000, enumerateFiniteDomains = true)
+        public void shouldHold(boolean b, Answer a) {
+            tuples.add(b + "/" + a);
+        }
+    }
+
+    @Test public void onlyValues() {
+        OnlyValues.tuples.clear();
+
+        assertThat(testResult(OnlyValues.class), isSuccessful());
+        assertEquals(6, OnlyValues.tuples.size());
+        assertEquals(6, new HashSet<>(OnlyValues.tuples).size());
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class OnlyValues {
+        static final List<String> tuples = new ArrayList<>();
+
+        @Property(enumerateFiniteDomains = true)
+        public void shouldHold(@Only({"1", "2", "3"}) int i, boolean b) {
+            tuples.add(i + "/" + b);
+        }
+    }
+
+    @Test public void samplesWhenTrialsCannotCoverDomains() {
+        TooFewTrials.iterations = 0;
+
+        assertThat(testResult(TooFewTrials.class), isSuccessful());
+        assertEquals(5, TooFewTrials.iterations);
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class TooFewTrials {
+        static int iterations;
+
+        @Property(trials = 5, enumerateFiniteDomains = true)
+        public void shouldHold(Answer a, Answer b) {
+            ++iterations;
+        }
+    }
+
+    @Test public void samplesWhenDomainIsNotKnown() {
+        UnknownDomain.iterations = 0;
+
+        assertThat(testResult(UnknownDomain.class), isSuccessful());
+        assertEquals(100, UnknownDomain.iterations);
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class UnknownDomain {
+        static int iterations;
+
+        @Property(enumerateFiniteDomains = true)
+        public void shouldHold(Answer a, Foo f) {
+            ++iterations;
+        }
+    }
+
+    @Test public void replaysEnumeratedTuple() {
+        FailsOnOneTuple.tuples.clear();
+        Result result = JUnitCore.runClasses(FailsOnOneTuple.class);
+        assertEquals(1, result.getFailureCount());
+        String message = result.getFailures().get(0).getMessage();
+        assertThat(message, containsString("Replay with: "));
+        Matcher replay = REPLAY.matcher(message);
+        assertTrue(replay.find());
+
+        FailsOnOneTuple.tuples.clear();
+        System.setProperty(TrialControl.REPLAY_PROPERTY, replay.group(1));
+        assertThat(
+            testResult(FailsOnOneTuple.class),
+            hasSingleFailureContaining(replay.group()));
+        assertEquals(1, FailsOnOneTuple.tuples.size());
+        assertEquals("true/NO", FailsOnOneTuple.tuples.get(0));
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class FailsOnOneTuple {
+        static final List<String> tuples = new ArrayList<>();
+
+        @Property(enumerateFiniteDomains = true, shrink = false)
+        public void shouldHold(boolean b, Answer a) {
+            tuples.add(b + "/" + a);
+
+            assertTrue(!b || a != Answer.NO);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2020 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.Assert.assertEquals;
+import static org.junit.experimental.results.PrintableResult.testResult;
+import static org.junit.experimental.results.ResultMatchers.isSuccessful;
+
+import com.pholser.junit.quickcheck.generator.GenerationStatus;
+import com.pholser.junit.quickcheck.generator.Generator;
+import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+import com.pholser.junit.quickcheck.runner.JUnitQuickcheck;
+import com.pholser.junit.quickcheck.test.generator.Foo;
+import org.junit.Test;
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Result;
+import org.junit.runner.RunWith;
+
+public class InvokingPropertyMethodsTest {
+    private static final String UNEXPECTED_ERROR =
+        "Unexpected error in property shouldHold with args";
+
+    @Test public void propertyDeclaredInPackagePrivateSuperclass() {
+        PackagePrivateProperty.iterations = 0;
+
+        assertThat(testResult(InheritedProperty.class), isSuccessful());
+        assertEquals(5, PackagePrivateProperty.iterations);
+    }
+
+    abstract static class PackagePrivateProperty {
+        static int iterations;
+
+        @Property(trials = 5) public void shouldHold(Foo f) {
+            ++iterations;
+        }
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class InheritedProperty extends PackagePrivateProperty {
+    }
+
+    @Test public void errorsInPropertyReportedAlikeEitherWay() {
+        Throwable direct = singleFailure(ThrowingDirectly.class);
+        Throwable reflective = singleFailure(ThrowingReflectively.class);
+
+        assertThat(direct.getMessage(), startsWith(UNEXPECTED_ERROR));
+        assertThat(reflective.getMessage(), startsWith(UNEXPECTED_ERROR));
+        assertEquals(IllegalStateException.class, direct.getCause().getClass());
+        assertEquals(
+            IllegalStateException.class,
+            reflective.getCause().getClass());
+        assertEquals("oops", direct.getCause().getMessage());
+        assertEquals("oops", reflective.getCause().getMessage());
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class ThrowingDirectly {
+        @Property public void shouldHold(Foo f) {
+            throw new IllegalStateException("oops");
+        }
+    }
+
+    abstract static class PackagePrivateThrowing {
+        @Property public void shouldHold(Foo f) {
+            throw new IllegalStateException("oops");
+        }
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class ThrowingReflectively extends PackagePrivateThrowing {
+    }
+
+    @Test public void mismatchedArgumentsReportedAlikeEitherWay() {
+        Throwable direct = singleFailure(MistypedDirectly.class);
+        Throwable reflective = singleFailure(MistypedReflectively.class);
+
+        assertThat(
+            direct.getMessage(),
+            startsWith(UNEXPECTED_ERROR + " [not a Foo]"));
+        assertThat(
+            reflective.getMessage(),
+            startsWith(UNEXPECTED_ERROR + " [not a Foo]"));
+        assertEquals(
+            IllegalArgumentException.class,
+            direct.getCause().getClass());
+        assertEquals(
+            IllegalArgumentException.class,
+            reflective.getCause().getClass());
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class MistypedDirectly {
+        @Property public void shouldHold(@From(Mistyped.class) Foo f) {
+        }
+    }
+
+    abstract static class PackagePrivateMistyped {
+        @Property public void shouldHold(@From(Mistyped.class) Foo f) {
+        }
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class MistypedReflectively extends PackagePrivateMistyped {
+    }
+
+    // Claims to make Foos, but makes strings
+    public static class Mistyped<T> extends Generator<T> {
+        @SuppressWarnings("unchecked")
+        public Mistyped() {
+            super((Class<T>) (Class<?>) Foo.class);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override public T generate(
+            SourceOfRandomness random,
+            GenerationStatus status) {
+
+            return (T) "not a Foo";
+        }
+    }
+
+    private static Throwable singleFailure(Class<?> propertyClass) {
+        Result result = JUnitCore.runClasses(propertyClass);
+        assertEquals(1, result.getFailureCount());
+        return result.getFailures().get(0).getException();
+    }
+}
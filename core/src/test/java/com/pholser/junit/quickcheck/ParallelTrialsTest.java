@@ -0,0 +1,153 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2020 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeThat;
+import static org.junit.Assume.assumeTrue;
+import static org.junit.experimental.results.PrintableResult.testResult;
+import static org.junit.experimental.results.ResultMatchers.hasSingleFailureContaining;
+import static org.junit.experimental.results.ResultMatchers.isSuccessful;
+
+import com.pholser.junit.quickcheck.internal.TrialControl;
+import com.pholser.junit.quickcheck.runner.JUnitQuickcheck;
+import com.pholser.junit.quickcheck.test.generator.Foo;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+public class ParallelTrialsTest {
+    @After public void clearParallelism() {
+        System.clearProperty(TrialControl.PARALLELISM_PROPERTY);
+    }
+
+    @Test public void verifiesEveryTrialAcrossWorkers() {
+        assertThat(testResult(EveryTrial.class), isSuccessful());
+        assertEquals(1000, EveryTrial.iterations.get());
+        assertThat(EveryTrial.threads.size(), lessThanOrEqualTo(4));
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class EveryTrial {
+        static final AtomicInteger iterations = new AtomicInteger();
+        static final Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        @Property(trials = 1000, parallelism = 4)
+        public void shouldHold(Foo f) {
+            iterations.incrementAndGet();
+            threads.add(Thread.currentThread().getName());
+        }
+    }
+
+    @Test public void shrinksFirstFailure() {
+        assertThat(
+            testResult(ShrinkingInParallel.class),
+            hasSingleFailureContaining(
+                String.format("With arguments: [%s]", new Foo(1))));
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class ShrinkingInParallel {
+        @Property(
+            parallelism = 4,
+            maxShrinks = Integer.MAX_VALUE,
+            maxShrinkDepth = Integer.MAX_VALUE)
+        public void shouldHold(Foo f) {
+            assumeThat(f.i(), greaterThan(0));
+
+            assertThat(f.i(), lessThan(1));
+        }
+    }
+
+    @Test public void assumptionsNeverMet() {
+        assertThat(
+            testResult(AssumptionsNeverMet.class),
+            isSuccessful());
+        assertEquals(100, AssumptionsNeverMet.iterations.get());
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class AssumptionsNeverMet {
+        static final AtomicInteger iterations = new AtomicInteger();
+
+        @Property(parallelism = 3) public void shouldHold(Foo f) {
+            iterations.incrementAndGet();
+            assumeTrue(false);
+        }
+    }
+
+    @Test public void unexpectedErrorInProperty() {
+        assertThat(
+            testResult(UnexpectedErrorInProperty.class),
+            hasSingleFailureContaining(
+                "Unexpected error in property shouldHold with args ["));
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class UnexpectedErrorInProperty {
+        @Property(parallelism = 2) public void shouldHold(Foo f) {
+            throw new IllegalStateException();
+        }
+    }
+
+    @Test public void parallelismFromSystemProperty() {
+        System.setProperty(TrialControl.PARALLELISM_PROPERTY, "3");
+
+        assertThat(testResult(DefaultParallelism.class), isSuccessful());
+        assertEquals(200, DefaultParallelism.iterations.get());
+        assertThat(DefaultParallelism.threads.size(), lessThanOrEqualTo(3));
+        assertThat(
+            DefaultParallelism.threads.iterator().next(),
+            startsWith("junit-quickcheck-shouldHold"));
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class DefaultParallelism {
+        static final AtomicInteger iterations = new AtomicInteger();
+        static final Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        @Property(trials = 200) public void shouldHold(Foo f) {
+            iterations.incrementAndGet();
+            threads.add(Thread.currentThread().getName());
+        }
+    }
+
+    @Test public void nonPositiveParallelismFromSystemProperty() {
+        System.setProperty(TrialControl.PARALLELISM_PROPERTY, "-1");
+
+        assertThat(
+            testResult(DefaultParallelism.class),
+            hasSingleFailureContaining("junit-quickcheck.parallelism"));
+    }
+}
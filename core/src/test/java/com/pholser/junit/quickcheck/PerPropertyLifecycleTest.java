@@ -0,0 +1,263 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2020 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck;
+
+import static com.pholser.junit.quickcheck.Lifecycle.PER_PROPERTY;
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertEquals;
+import static org.junit.experimental.results.PrintableResult.testResult;
+import static org.junit.experimental.results.ResultMatchers.failureCountIs;
+import static org.junit.experimental.results.ResultMatchers.hasSingleFailureContaining;
+import static org.junit.experimental.results.ResultMatchers.isSuccessful;
+
+import com.pholser.junit.quickcheck.internal.TrialControl;
+import com.pholser.junit.quickcheck.runner.JUnitQuickcheck;
+import com.pholser.junit.quickcheck.test.generator.Foo;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExternalResource;
+import org.junit.runner.RunWith;
+
+public class PerPropertyLifecycleTest {
+    @Test public void fixturesWrapAllTrials() {
+        PerProperty.LOGS.clear();
+
+        assertThat(testResult(PerProperty.class), isSuccessful());
+        assertEquals(
+            asList(
+                "rule before", "set up",
+                "before trial", "property",
+                "before trial", "property",
+                "before trial", "property",
+                "tear down", "rule after"),
+            PerProperty.LOGS);
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class PerProperty {
+        static final List<String> LOGS = new ArrayList<>();
+
+        @Rule public final ExternalResource rule =
+            new ExternalResource() {
+                @Override protected void before() {
+                    LOGS.add("rule before");
+                }
+
+                @Override protected void after() {
+                    LOGS.add("rule after");
+                }
+            };
+
+        @Before public void setUp() {
+            LOGS.add("set up");
+        }
+
+        @BeforeTrial public void reset() {
+            LOGS.add("before trial");
+        }
+
+        @After public void tearDown() {
+            LOGS.add("tear down");
+        }
+
+        @Property(trials = 3, lifecycle = PER_PROPERTY)
+        public void shouldHold(Foo f) {
+            LOGS.add("property");
+        }
+    }
+
+    @Test public void beforeTrialRunsWithinPerTrialFixtures() {
+        PerTrial.LOGS.clear();
+
+        assertThat(testResult(PerTrial.class), isSuccessful());
+        assertEquals(
+            asList(
+                "set up", "before trial", "property", "tear down",
+                "set up", "before trial", "property", "tear down"),
+            PerTrial.LOGS);
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class PerTrial {
+        static final List<String> LOGS = new ArrayList<>();
+
+        @Before public void setUp() {
+            LOGS.add("set up");
+        }
+
+        @BeforeTrial public void reset() {
+            LOGS.add("before trial");
+        }
+
+        @After public void tearDown() {
+            LOGS.add("tear down");
+        }
+
+        @Property(trials = 2) public void shouldHold(Foo f) {
+            LOGS.add("property");
+        }
+    }
+
+    @Test public void freshInstanceAndFixturesForEveryTrial() {
+        FailingPerTrial.LOGS.clear();
+        FailingPerTrial.instances.clear();
+
+        assertThat(
+            testResult(FailingPerTrial.class),
+            hasSingleFailureContaining("With arguments"));
+        assertEquals(
+            FailingPerTrial.LOGS.size(),
+            3 * FailingPerTrial.instances.size());
+        for (int i = 0; i < FailingPerTrial.LOGS.size(); i += 3) {
+            assertEquals(
+                asList("set up", "property", "tear down"),
+                FailingPerTrial.LOGS.subList(i, i + 3));
+        }
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class FailingPerTrial {
+        static final List<String> LOGS = new ArrayList<>();
+        static final Set<Object> instances = identitySet();
+
+        @Before public void setUp() {
+            LOGS.add("set up");
+        }
+
+        @After public void tearDown() {
+            LOGS.add("tear down");
+        }
+
+        @Property public void shouldHold(Foo f) {
+            instances.add(this);
+            LOGS.add("property");
+            assertEquals(0, f.i() % 2);
+        }
+    }
+
+    @Test public void shrinksOnTheSameInstance() {
+        FailingPerProperty.instances.clear();
+        FailingPerProperty.setUps = 0;
+
+        assertThat(
+            testResult(FailingPerProperty.class),
+            hasSingleFailureContaining("With arguments"));
+        assertEquals(1, FailingPerProperty.setUps);
+        assertEquals(1, FailingPerProperty.instances.size());
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class FailingPerProperty {
+        static final Set<Object> instances = identitySet();
+        static int setUps;
+
+        @Before public void setUp() {
+            ++setUps;
+        }
+
+        @Property(lifecycle = PER_PROPERTY) public void shouldHold(Foo f) {
+            instances.add(this);
+            assertEquals(0, f.i() % 2);
+        }
+    }
+
+    @Test public void noParallelTrials() {
+        assertThat(
+            testResult(ParallelPerProperty.class),
+            hasSingleFailureContaining("PER_PROPERTY"));
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class ParallelPerProperty {
+        @Property(parallelism = 4, lifecycle = PER_PROPERTY)
+        public void shouldHold(Foo f) {
+        }
+    }
+
+    @Test public void noParallelShrinking() {
+        assertThat(
+            testResult(ParallelShrinkingPerProperty.class),
+            hasSingleFailureContaining("PER_PROPERTY"));
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class ParallelShrinkingPerProperty {
+        @Property(shrinkParallelism = 2, lifecycle = PER_PROPERTY)
+        public void shouldHold(Foo f) {
+        }
+    }
+
+    @Test public void defaultParallelismDoesNotApply() {
+        DefaultParallelismPerProperty.threads.clear();
+        System.setProperty(TrialControl.PARALLELISM_PROPERTY, "4");
+        try {
+            assertThat(
+                testResult(DefaultParallelismPerProperty.class),
+                isSuccessful());
+        } finally {
+            System.clearProperty(TrialControl.PARALLELISM_PROPERTY);
+        }
+
+        assertEquals(1, DefaultParallelismPerProperty.threads.size());
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class DefaultParallelismPerProperty {
+        static final Set<Object> threads = identitySet();
+
+        @Property(trials = 50, lifecycle = PER_PROPERTY)
+        public void shouldHold(Foo f) {
+            threads.add(Thread.currentThread());
+        }
+    }
+
+    @Test public void beforeTrialMethodsMustBePublicVoidNoArg() {
+        assertThat(testResult(MalformedBeforeTrial.class), failureCountIs(1));
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class MalformedBeforeTrial {
+        @BeforeTrial public int reset(int i) {
+            return i;
+        }
+
+        @Property public void shouldHold(Foo f) {
+        }
+    }
+
+    private static Set<Object> identitySet() {
+        return Collections.synchronizedSet(
+            Collections.newSetFromMap(new IdentityHashMap<>()));
+    }
+}
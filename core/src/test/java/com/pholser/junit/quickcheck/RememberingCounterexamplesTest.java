@@ -0,0 +1,175 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2020 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.experimental.results.PrintableResult.testResult;
+import static org.junit.experimental.results.ResultMatchers.hasSingleFailureContaining;
+import static org.junit.experimental.results.ResultMatchers.isSuccessful;
+
+import com.pholser.junit.quickcheck.hook.DirectoryCounterexampleStore;
+import com.pholser.junit.quickcheck.internal.TrialControl;
+import com.pholser.junit.quickcheck.runner.JUnitQuickcheck;
+import com.pholser.junit.quickcheck.test.generator.Foo;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Result;
+import org.junit.runner.RunWith;
+
+public class RememberingCounterexamplesTest {
+    private static final Pattern REPLAY =
+        Pattern.compile("-Djunit-quickcheck\\.replay=(-?\\d+:\\d+)");
+
+    @Rule public final TemporaryFolder folder = new TemporaryFolder();
+
+    private DirectoryCounterexampleStore store;
+
+    @Before public void rememberInFolder() {
+        store = new DirectoryCounterexampleStore(folder.getRoot().toPath());
+        System.setProperty(
+            TrialControl.COUNTEREXAMPLES_PROPERTY,
+            folder.getRoot().getPath());
+    }
+
+    @After public void forgetFolder() {
+        System.clearProperty(TrialControl.COUNTEREXAMPLES_PROPERTY);
+    }
+
+    @Test public void remembersFailingTrialAndVerifiesItFirst() {
+        FailsSometimes.values.clear();
+        String counterexample = counterexampleOf(FailsSometimes.class);
+        Foo failing =
+            FailsSometimes.values.get(FailsSometimes.values.size() - 1);
+        assertEquals(
+            singletonList(counterexample),
+            store.load(nameOf(FailsSometimes.class)));
+
+        FailsSometimes.values.clear();
+        assertThat(
+            testResult(FailsSometimes.class),
+            hasSingleFailureContaining(counterexample));
+        assertEquals(singletonList(failing), FailsSometimes.values);
+        assertEquals(
+            singletonList(counterexample),
+            store.load(nameOf(FailsSometimes.class)));
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class FailsSometimes {
+        static final List<Foo> values = new ArrayList<>();
+
+        @Property(trials = 200, shrink = false)
+        public void shouldHold(Foo f) {
+            values.add(f);
+
+            assertTrue(Math.abs(f.i() % 5) != 3);
+        }
+    }
+
+    @Test public void forgetsCounterexamplesThatNoLongerFail() {
+        Holds.iterations = 0;
+        store.save(nameOf(Holds.class), "12:3");
+        store.save(nameOf(Holds.class), "not a trial");
+
+        assertThat(testResult(Holds.class), isSuccessful());
+        assertEquals(emptyList(), store.load(nameOf(Holds.class)));
+        assertEquals(11, Holds.iterations);
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class Holds {
+        static int iterations;
+
+        @Property(trials = 10) public void shouldHold(Foo f) {
+            ++iterations;
+        }
+    }
+
+    @Test public void customStore() {
+        InMemory.counterexamples.clear();
+        System.clearProperty(TrialControl.COUNTEREXAMPLES_PROPERTY);
+
+        String counterexample = counterexampleOf(FailsInMemory.class);
+
+        assertEquals(
+            asList(nameOf(FailsInMemory.class), counterexample),
+            InMemory.counterexamples);
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class FailsInMemory {
+        @Property(shrink = false, counterexampleStore = InMemory.class)
+        public void shouldHold(Foo f) {
+            assertTrue(Math.abs(f.i() % 5) != 3);
+        }
+    }
+
+    public static class InMemory implements CounterexampleStore {
+        static final List<String> counterexamples = new ArrayList<>();
+
+        @Override public List<String> load(String property) {
+            return emptyList();
+        }
+
+        @Override public void save(String property, String counterexample) {
+            counterexamples.add(property);
+            counterexamples.add(counterexample);
+        }
+
+        @Override public void delete(String property, String counterexample) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static String nameOf(Class<?> propertyClass) {
+        return propertyClass.getName() + "#shouldHold";
+    }
+
+    private static String counterexampleOf(Class<?> propertyClass) {
+        Result result = JUnitCore.runClasses(propertyClass);
+        assertEquals(1, result.getFailureCount());
+        String message = result.getFailures().get(0).getMessage();
+        assertThat(message, containsString("Replay with: "));
+
+        Matcher replay = REPLAY.matcher(message);
+        assertTrue(replay.find());
+        return replay.group(1);
+    }
+}
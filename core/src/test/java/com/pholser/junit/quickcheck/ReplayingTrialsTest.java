@@ -0,0 +1,139 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2020 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.experimental.results.PrintableResult.testResult;
+import static org.junit.experimental.results.ResultMatchers.hasSingleFailureContaining;
+
+import com.pholser.junit.quickcheck.internal.TrialControl;
+import com.pholser.junit.quickcheck.runner.JUnitQuickcheck;
+import com.pholser.junit.quickcheck.test.generator.Foo;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Result;
+import org.junit.runner.RunWith;
+
+public class ReplayingTrialsTest {
+    private static final Pattern REPLAY =
+        Pattern.compile("-Djunit-quickcheck\\.replay=(-?\\d+):(\\d+)");
+
+    @After public void clearReplay() {
+        System.clearProperty(TrialControl.REPLAY_PROPERTY);
+    }
+
+    @Test public void replaysOnlyTheFailingTrial() {
+        FailsSometimes.values.clear();
+        Matcher replay = replayOf(FailsSometimes.class);
+        int trial = Integer.parseInt(replay.group(2));
+        List<Foo> original = new ArrayList<>(FailsSometimes.values);
+        assertEquals(trial + 1, original.size());
+
+        FailsSometimes.values.clear();
+        System.setProperty(
+            TrialControl.REPLAY_PROPERTY,
+            replay.group(1) + ':' + replay.group(2));
+        assertThat(
+            testResult(FailsSometimes.class),
+            hasSingleFailureContaining(replay.group()));
+
+        assertEquals(
+            Collections.singletonList(original.get(trial)),
+            FailsSometimes.values);
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class FailsSometimes {
+        static final List<Foo> values = new ArrayList<>();
+
+        @Property(trials = 200, shrink = false)
+        public void shouldHold(Foo f) {
+            values.add(f);
+
+            assertTrue(Math.abs(f.i() % 5) != 3);
+        }
+    }
+
+    @Test public void replaysTrialFoundInParallel() {
+        Matcher replay = replayOf(FailsSometimesInParallel.class);
+        Set<String> original = new HashSet<>(FailsSometimesInParallel.failing);
+        FailsSometimesInParallel.failing.clear();
+
+        System.setProperty(
+            TrialControl.REPLAY_PROPERTY,
+            replay.group(1) + ':' + replay.group(2));
+        assertThat(
+            testResult(FailsSometimesInParallel.class),
+            hasSingleFailureContaining(replay.group()));
+
+        assertEquals(1, FailsSometimesInParallel.failing.size());
+        assertTrue(original.containsAll(FailsSometimesInParallel.failing));
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class FailsSometimesInParallel {
+        static final Set<String> failing = ConcurrentHashMap.newKeySet();
+
+        @Property(trials = 500, parallelism = 4, shrink = false)
+        public void shouldHold(Foo f, Foo g) {
+            if (Math.abs(f.i() % 5) == 3) {
+                failing.add(f + "/" + g);
+                assertTrue(false);
+            }
+        }
+    }
+
+    @Test public void badReplayValue() {
+        System.setProperty(TrialControl.REPLAY_PROPERTY, "12:x");
+
+        assertThat(
+            testResult(FailsSometimes.class),
+            hasSingleFailureContaining("junit-quickcheck.replay"));
+    }
+
+    private static Matcher replayOf(Class<?> propertyClass) {
+        Result result = JUnitCore.runClasses(propertyClass);
+        assertEquals(1, result.getFailureCount());
+        String message = result.getFailures().get(0).getMessage();
+        assertThat(message, containsString("Replay with: "));
+
+        Matcher replay = REPLAY.matcher(message);
+        assertTrue(replay.find());
+        return replay;
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2020 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck;
+
+import static com.pholser.junit.quickcheck.Mode.EXHAUSTIVE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.experimental.results.PrintableResult.testResult;
+import static org.junit.experimental.results.ResultMatchers.failureCountIs;
+import static org.junit.experimental.results.ResultMatchers.isSuccessful;
+
+import com.pholser.junit.quickcheck.internal.TrialControl;
+import com.pholser.junit.quickcheck.runner.JUnitQuickcheck;
+import com.pholser.junit.quickcheck.test.generator.Foo;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+
+public class ResumingExhaustiveVerificationTest {
+    @Rule public final TemporaryFolder folder = new TemporaryFolder();
+
+    private Path checkpoint;
+
+    @Before public void checkpointInFolder() {
+        checkpoint =
+            folder.getRoot().toPath()
+                .resolve(InterruptedOnce.class.getName())
+                .resolve("shouldHold");
+        System.setProperty(
+            TrialControl.CHECKPOINTS_PROPERTY,
+            folder.getRoot().getPath());
+        System.setProperty(TrialControl.CHECKPOINT_INTERVAL_PROPERTY, "0");
+    }
+
+    @After public void forgetFolder() {
+        System.clearProperty(TrialControl.CHECKPOINTS_PROPERTY);
+        System.clearProperty(TrialControl.CHECKPOINT_INTERVAL_PROPERTY);
+    }
+
+    @Test public void resumesFromLastCheckpoint() {
+        InterruptedOnce.tuples.clear();
+        InterruptedOnce.interrupt = true;
+        assertThat(testResult(InterruptedOnce.class), failureCountIs(1));
+        List<List<Foo>> before = new ArrayList<>(InterruptedOnce.tuples);
+        assertEquals(37, before.size());
+        assertTrue(Files.exists(checkpoint));
+
+        InterruptedOnce.tuples.clear();
+        InterruptedOnce.interrupt = false;
+        assertThat(testResult(InterruptedOnce.class), isSuccessful());
+        List<List<Foo>> after = new ArrayList<>(InterruptedOnce.tuples);
+        assertEquals(100 - 36, after.size());
+        assertEquals(before.get(36), after.get(0));
+        assertFalse(Files.exists(checkpoint));
+
+        InterruptedOnce.tuples.clear();
+        assertThat(testResult(InterruptedOnce.class), isSuccessful());
+        assertEquals(100, InterruptedOnce.tuples.size());
+    }
+
+    @Test public void startsAfreshWithDifferentConfiguration() {
+        InterruptedOnce.tuples.clear();
+        InterruptedOnce.interrupt = true;
+        assertThat(testResult(InterruptedOnce.class), failureCountIs(1));
+        List<Foo> interrupted = InterruptedOnce.tuples.get(36);
+
+        System.setProperty(TrialControl.SHARD_COUNT_PROPERTY, "2");
+        try {
+            InterruptedOnce.tuples.clear();
+            InterruptedOnce.interrupt = false;
+            assertThat(testResult(InterruptedOnce.class), isSuccessful());
+            assertEquals(50, InterruptedOnce.tuples.size());
+            assertNotEquals(interrupted, InterruptedOnce.tuples.get(0));
+        } finally {
+            System.clearProperty(TrialControl.SHARD_COUNT_PROPERTY);
+        }
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class InterruptedOnce {
+        static final List<List<Foo>> tuples = new ArrayList<>();
+        static boolean interrupt;
+
+        @Property(trials = 10, mode = EXHAUSTIVE, shrink = false)
+        public void shouldHold(Foo f, Foo g) {
+            List<Foo> tuple = new ArrayList<>();
+            tuple.add(f);
+            tuple.add(g);
+            tuples.add(tuple);
+
+            assertFalse(interrupt && tuples.size() == 37);
+        }
+    }
+}
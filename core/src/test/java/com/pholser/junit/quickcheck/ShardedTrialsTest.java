@@ -0,0 +1,151 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2020 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck;
+
+import static com.pholser.junit.quickcheck.Mode.EXHAUSTIVE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.experimental.results.PrintableResult.testResult;
+import static org.junit.experimental.results.ResultMatchers.hasSingleFailureContaining;
+import static org.junit.experimental.results.ResultMatchers.isSuccessful;
+
+import com.pholser.junit.quickcheck.internal.TrialControl;
+import com.pholser.junit.quickcheck.runner.JUnitQuickcheck;
+import com.pholser.junit.quickcheck.test.generator.Foo;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+public class ShardedTrialsTest {
+    @After public void clearSettings() {
+        System.clearProperty(TrialControl.SEED_PROPERTY);
+        System.clearProperty(TrialControl.SHARD_INDEX_PROPERTY);
+        System.clearProperty(TrialControl.SHARD_COUNT_PROPERTY);
+    }
+
+    @Test public void shardsPartitionOneBigRun() {
+        System.setProperty(TrialControl.SEED_PROPERTY, "42");
+        List<String> whole = run(Recording.class, Recording.values);
+        assertEquals(100, whole.size());
+
+        for (int shard = 0; shard < 3; ++shard) {
+            shard(shard, 3);
+
+            List<String> expected = new ArrayList<>();
+            for (int i = shard; i < whole.size(); i += 3)
+                expected.add(whole.get(i));
+
+            assertEquals(expected, run(Recording.class, Recording.values));
+        }
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class Recording {
+        static final List<String> values = new ArrayList<>();
+
+        @Property public void shouldHold(Foo f, Foo g) {
+            values.add(f + "/" + g);
+        }
+    }
+
+    @Test public void shardsAgreeOnSeedWithoutBeingTold() {
+        shard(1, 2);
+
+        List<String> first = run(Recording.class, Recording.values);
+        assertEquals(50, first.size());
+        assertEquals(first, run(Recording.class, Recording.values));
+    }
+
+    @Test public void shardsPartitionExhaustiveRun() {
+        System.setProperty(TrialControl.SEED_PROPERTY, "-7");
+        List<String> whole = run(Exhaustive.class, Exhaustive.values);
+        assertEquals(9, whole.size());
+
+        for (int shard = 0; shard < 2; ++shard) {
+            shard(shard, 2);
+
+            List<String> expected = new ArrayList<>();
+            for (int i = shard; i < whole.size(); i += 2)
+                expected.add(whole.get(i));
+
+            assertEquals(expected, run(Exhaustive.class, Exhaustive.values));
+        }
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class Exhaustive {
+        static final List<String> values = new ArrayList<>();
+
+        @Property(mode = EXHAUSTIVE, trials = 3)
+        public void shouldHold(Foo f, Foo g) {
+            values.add(f + "/" + g);
+        }
+    }
+
+    @Test public void failingShardTellsHowToRerunIt() {
+        shard(1, 4);
+
+        assertThat(
+            testResult(Failing.class),
+            hasSingleFailureContaining(
+                "Rerun shard with: -Djunit-quickcheck.shard.index=1"
+                    + " -Djunit-quickcheck.shard.count=4"
+                    + " -Djunit-quickcheck.seed="));
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class Failing {
+        @Property(shrink = false) public void shouldHold(Foo f) {
+            assertTrue(false);
+        }
+    }
+
+    @Test public void badShard() {
+        shard(3, 2);
+
+        assertThat(
+            testResult(Recording.class),
+            hasSingleFailureContaining("Bad shard 3 of 2"));
+    }
+
+    private static void shard(int index, int count) {
+        System.setProperty(
+            TrialControl.SHARD_INDEX_PROPERTY,
+            String.valueOf(index));
+        System.setProperty(
+            TrialControl.SHARD_COUNT_PROPERTY,
+            String.valueOf(count));
+    }
+
+    private static List<String> run(Class<?> properties, List<String> values) {
+        values.clear();
+        assertThat(testResult(properties), isSuccessful());
+        return new ArrayList<>(values);
+    }
+}
@@ -25,10 +25,14 @@
 
 package com.pholser.junit.quickcheck;
 
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.lessThan;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.junit.Assume.assumeFalse;
@@ -39,14 +43,22 @@ import static org.junit.experimental.results.ResultMatchers.failureCountIs;
 import static org.junit.experimental.results.ResultMatchers.hasSingleFailureContaining;
 import static org.junit.experimental.results.ResultMatchers.isSuccessful;
 
+import com.pholser.junit.quickcheck.generator.GenerationStatus;
+import com.pholser.junit.quickcheck.generator.Generator;
 import com.pholser.junit.quickcheck.generator.Size;
+import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 import com.pholser.junit.quickcheck.runner.JUnitQuickcheck;
 import com.pholser.junit.quickcheck.test.generator.AFooBadShrinks;
 import com.pholser.junit.quickcheck.test.generator.Between;
 import com.pholser.junit.quickcheck.test.generator.Foo;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import org.junit.Test;
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Result;
 import org.junit.runner.RunWith;
 
 public class ShrinkingTest {
@@ -276,4 +288,213 @@ public class ShrinkingTest {
             fail();
         }
     }
+
+    @Test public void candidatesAlreadyTriedAreNotVerifiedAgain() {
+        RepeatedShrinksOfFoo.attempts.clear();
+
+        assertThat(
+            testResult(RepeatedShrinksOfFoo.class),
+            hasSingleFailureContaining(
+                "Shrink candidates already tried: 1 of 3 (33.3%)"));
+        assertEquals(3, RepeatedShrinksOfFoo.attempts.size());
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class RepeatedShrinksOfFoo {
+        static final List<Foo> attempts = new ArrayList<>();
+
+        @Property(trials = 1)
+        public void shouldHold(@From(RepeatedShrinks.class) Foo f) {
+            attempts.add(f);
+
+            assertNotEquals(1, f.i());
+        }
+    }
+
+    @Test public void noCacheReportWhenNoCandidateRepeats() {
+        Result result = JUnitCore.runClasses(DistinctShrinksOfFoo.class);
+
+        assertEquals(1, result.getFailureCount());
+        assertFalse(
+            result.getFailures().get(0).getMessage()
+                .contains("Shrink candidates already tried"));
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class DistinctShrinksOfFoo {
+        @Property(trials = 1)
+        public void shouldHold(@From(DistinctShrinks.class) Foo f) {
+            assertNotEquals(1, f.i());
+        }
+    }
+
+    @Test public void disablingShrinkCache() {
+        UncachedRepeatedShrinksOfFoo.attempts.clear();
+
+        assertThat(
+            testResult(UncachedRepeatedShrinksOfFoo.class),
+            failureCountIs(1));
+        assertEquals(4, UncachedRepeatedShrinksOfFoo.attempts.size());
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class UncachedRepeatedShrinksOfFoo {
+        static final List<Foo> attempts = new ArrayList<>();
+
+        @Property(trials = 1, shrinkCacheSize = 0)
+        public void shouldHold(@From(RepeatedShrinks.class) Foo f) {
+            attempts.add(f);
+
+            assertNotEquals(1, f.i());
+        }
+    }
+
+    @Test public void fingerprintingShrinkCandidates() {
+        FingerprintedShrinksOfFoo.attempts.clear();
+
+        assertThat(
+            testResult(FingerprintedShrinksOfFoo.class),
+            hasSingleFailureContaining(
+                "Shrink candidates already tried: 2 of 3 (66.7%)"));
+        assertEquals(2, FingerprintedShrinksOfFoo.attempts.size());
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class FingerprintedShrinksOfFoo {
+        static final List<Foo> attempts = new ArrayList<>();
+
+        @Property(trials = 1, shrinkFingerprint = Squared.class)
+        public void shouldHold(@From(RepeatedShrinks.class) Foo f) {
+            attempts.add(f);
+
+            assertNotEquals(1, f.i());
+        }
+    }
+
+    @Test public void shrinkingInParallelFindsSameCounterexample() {
+        ShrinkingArrayInParallel.threads.clear();
+
+        assertEquals(
+            minimalArguments(ShrinkingArraySequentially.class),
+            minimalArguments(ShrinkingArrayInParallel.class));
+        assertTrue(
+            ShrinkingArrayInParallel.threads.stream()
+                .anyMatch(t -> t.contains("-shrink-")));
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class ShrinkingArraySequentially {
+        @Property public void shouldHold(@When(seed = 13L) Foo[] a) {
+            assertTrue(Arrays.stream(a).allMatch(f -> f.i() < 100));
+        }
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class ShrinkingArrayInParallel {
+        static final Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        @Property(shrinkParallelism = 4)
+        public void shouldHold(@When(seed = 13L) Foo[] a) {
+            threads.add(Thread.currentThread().getName());
+
+            assertTrue(Arrays.stream(a).allMatch(f -> f.i() < 100));
+        }
+    }
+
+    private static String minimalArguments(Class<?> propertyClass) {
+        Result result = JUnitCore.runClasses(propertyClass);
+        assertEquals(1, result.getFailureCount());
+
+        String message = result.getFailures().get(0).getMessage();
+        return Arrays.stream(message.split("\\R"))
+            .filter(line -> line.startsWith("With arguments: "))
+            .findFirst()
+            .orElseThrow(() -> new AssertionError(message));
+    }
+
+    @Test public void shrinkingChoicesOfGeneratorThatDoesNotShrink() {
+        ShrinkingChoices.attempts.clear();
+
+        assertThat(
+            testResult(ShrinkingChoices.class),
+            hasSingleFailureContaining("With arguments: [Foo[1000]]"));
+        assertTrue(
+            ShrinkingChoices.attempts.stream().allMatch(f -> f.i() % 2 == 0));
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class ShrinkingChoices {
+        static final List<Foo> attempts = new ArrayList<>();
+
+        @Property(integratedShrinking = true)
+        public void shouldHold(@From(EvenFoos.class) Foo f) {
+            attempts.add(f);
+
+            assertThat(f.i(), lessThan(1000));
+        }
+    }
+
+    public static class EvenFoos extends Generator<Foo> {
+        public EvenFoos() {
+            super(Foo.class);
+        }
+
+        @Override public Foo generate(
+            SourceOfRandomness random,
+            GenerationStatus status) {
+
+            return new Foo(2 * random.nextInt(0, 1_000_000));
+        }
+    }
+
+    public static class Squared implements Fingerprint {
+        @Override public Object of(Object[] args) {
+            int i = ((Foo) args[0]).i();
+            return i * i;
+        }
+    }
+
+    public static class RepeatedShrinks extends Generator<Foo> {
+        public RepeatedShrinks() {
+            super(Foo.class);
+        }
+
+        @Override public Foo generate(
+            SourceOfRandomness random,
+            GenerationStatus status) {
+
+            return new Foo(1);
+        }
+
+        @Override public List<Foo> doShrink(
+            SourceOfRandomness random,
+            Foo larger) {
+
+            return larger.i() == 1
+                ? asList(new Foo(0), new Foo(-1), new Foo(0))
+                : emptyList();
+        }
+    }
+
+    public static class DistinctShrinks extends Generator<Foo> {
+        public DistinctShrinks() {
+            super(Foo.class);
+        }
+
+        @Override public Foo generate(
+            SourceOfRandomness random,
+            GenerationStatus status) {
+
+            return new Foo(1);
+        }
+
+        @Override public List<Foo> doShrink(
+            SourceOfRandomness random,
+            Foo larger) {
+
+            return larger.i() == 1
+                ? asList(new Foo(0), new Foo(-1))
+                : emptyList();
+        }
+    }
 }
@@ -0,0 +1,143 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2020 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertEquals;
+import static org.junit.experimental.results.PrintableResult.testResult;
+import static org.junit.experimental.results.ResultMatchers.hasSingleFailureContaining;
+import static org.junit.experimental.results.ResultMatchers.isSuccessful;
+
+import com.pholser.junit.quickcheck.runner.JUnitQuickcheck;
+import com.pholser.junit.quickcheck.test.generator.Foo;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+public class SkippingRepeatedTuplesTest {
+    public enum Answer { YES, NO, UNSURE }
+
+    @Test public void verifiesEachTupleOnce() {
+        SmallDomain.answers.clear();
+
+        assertThat(testResult(SmallDomain.class), isSuccessful());
+        assertEquals(3, SmallDomain.answers.size());
+        assertEquals(3, new HashSet<>(SmallDomain.answers).size());
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class SmallDomain {
+        static final List<Answer> answers = new ArrayList<>();
+
+        @Property(trials = 50, trialCacheSize = 100)
+        public void shouldHold(Answer a) {
+            answers.add(a);
+        }
+    }
+
+    @Test public void repeatsTuplesByDefault() {
+        Repeating.answers.clear();
+
+        assertThat(testResult(Repeating.class), isSuccessful());
+        assertEquals(50, Repeating.answers.size());
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class Repeating {
+        static final List<Answer> answers = new ArrayList<>();
+
+        @Property(trials = 50) public void shouldHold(Answer a) {
+            answers.add(a);
+        }
+    }
+
+    @Test public void remembersNoMoreThanCapacity() {
+        BoundedMemory.answers.clear();
+
+        assertThat(testResult(BoundedMemory.class), isSuccessful());
+        Answer first = BoundedMemory.answers.get(0);
+        assertEquals(
+            1,
+            BoundedMemory.answers.stream().filter(a -> a == first).count());
+        assertEquals(
+            3,
+            new HashSet<>(BoundedMemory.answers).size());
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class BoundedMemory {
+        static final List<Answer> answers = new ArrayList<>();
+
+        @Property(trials = 50, trialCacheSize = 1)
+        public void shouldHold(Answer a) {
+            answers.add(a);
+        }
+    }
+
+    @Test public void identifiesTuplesByFingerprint() {
+        ByFingerprint.count = 0;
+
+        assertThat(testResult(ByFingerprint.class), isSuccessful());
+        assertEquals(1, ByFingerprint.count);
+    }
+
+    public static class Constant implements Fingerprint {
+        @Override public Object of(Object[] args) {
+            return "same";
+        }
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class ByFingerprint {
+        static int count;
+
+        @Property(trialCacheSize = 10, trialFingerprint = Constant.class)
+        public void shouldHold(Foo f) {
+            ++count;
+        }
+    }
+
+    @Test public void reportsSkippedTrialsWithFailure() {
+        FailingLate.count = 0;
+
+        assertThat(
+            testResult(FailingLate.class),
+            hasSingleFailureContaining("Trials skipped as already verified"));
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class FailingLate {
+        static int count;
+
+        @Property(trials = 100, trialCacheSize = 100)
+        public void shouldHold(@When(seed = 1L) Answer a) {
+            if (++count == 3)
+                throw new AssertionError("third distinct answer");
+        }
+    }
+}
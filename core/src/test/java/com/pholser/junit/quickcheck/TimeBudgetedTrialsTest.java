@@ -0,0 +1,140 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2020 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertEquals;
+import static org.junit.experimental.results.PrintableResult.testResult;
+import static org.junit.experimental.results.ResultMatchers.hasSingleFailureContaining;
+import static org.junit.experimental.results.ResultMatchers.isSuccessful;
+
+import com.pholser.junit.quickcheck.runner.JUnitQuickcheck;
+import com.pholser.junit.quickcheck.test.generator.Foo;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+public class TimeBudgetedTrialsTest {
+    @Test public void keepsVerifyingUntilBudgetElapses() {
+        long start = System.currentTimeMillis();
+
+        assertThat(testResult(UntilBudgetElapses.class), isSuccessful());
+        assertThat(
+            System.currentTimeMillis() - start,
+            greaterThanOrEqualTo(200L));
+        assertThat(UntilBudgetElapses.iterations.get(), greaterThan(1));
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class UntilBudgetElapses {
+        static final AtomicInteger iterations = new AtomicInteger();
+
+        @Property(duration = 200) public void shouldHold(Foo f)
+            throws Exception {
+
+            iterations.incrementAndGet();
+            Thread.sleep(10);
+        }
+    }
+
+    @Test public void verifiesAtLeastMinimumTrials() {
+        assertThat(testResult(MinimumTrials.class), isSuccessful());
+        assertEquals(20, MinimumTrials.iterations.get());
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class MinimumTrials {
+        static final AtomicInteger iterations = new AtomicInteger();
+
+        @Property(duration = 1, minTrials = 20, maxTrials = 20)
+        public void shouldHold(Foo f) throws Exception {
+            iterations.incrementAndGet();
+            Thread.sleep(2);
+        }
+    }
+
+    @Test public void verifiesAtMostMaximumTrials() {
+        assertThat(testResult(MaximumTrials.class), isSuccessful());
+        assertEquals(500, MaximumTrials.iterations.get());
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class MaximumTrials {
+        static final AtomicInteger iterations = new AtomicInteger();
+
+        @Property(duration = 60_000, maxTrials = 500)
+        public void shouldHold(Foo f) {
+            iterations.incrementAndGet();
+        }
+    }
+
+    @Test public void budgetAcrossParallelWorkers() {
+        assertThat(testResult(InParallel.class), isSuccessful());
+        assertEquals(300, InParallel.iterations.get());
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class InParallel {
+        static final AtomicInteger iterations = new AtomicInteger();
+
+        @Property(duration = 60_000, maxTrials = 300, parallelism = 3)
+        public void shouldHold(Foo f) {
+            iterations.incrementAndGet();
+        }
+    }
+
+    @Test public void reportsTrialsRunOnFailure() {
+        assertThat(
+            testResult(FailingWithinBudget.class),
+            allOf(
+                hasSingleFailureContaining("With arguments: "),
+                hasSingleFailureContaining("Trials run: ")));
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class FailingWithinBudget {
+        @Property(duration = 60_000) public void shouldHold(Foo f) {
+            assertThat(f.i(), lessThan(0));
+        }
+    }
+
+    @Test public void badTrialBounds() {
+        assertThat(
+            testResult(BadTrialBounds.class),
+            hasSingleFailureContaining("Bad trial bounds [10, 5]"));
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class BadTrialBounds {
+        @Property(duration = 100, minTrials = 10, maxTrials = 5)
+        public void shouldHold(Foo f) {
+        }
+    }
+}
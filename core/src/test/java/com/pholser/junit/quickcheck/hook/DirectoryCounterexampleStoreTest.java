@@ -0,0 +1,99 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2020 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.hook;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class DirectoryCounterexampleStoreTest {
+    @Rule public final TemporaryFolder folder = new TemporaryFolder();
+
+    private Path root;
+    private DirectoryCounterexampleStore store;
+
+    @Before public void beforeEach() {
+        root = folder.getRoot().toPath();
+        store = new DirectoryCounterexampleStore(root);
+    }
+
+    @Test public void nothingRememberedForUnknownProperty() {
+        assertEquals(emptyList(), store.load("com.example.Props#holds"));
+    }
+
+    @Test public void remembersCounterexamplesInOrderOnce() throws IOException {
+        store.save("com.example.Props#holds", "1:2");
+        store.save("com.example.Props#holds", "3:4");
+        store.save("com.example.Props#holds", "1:2");
+
+        assertEquals(
+            asList("1:2", "3:4"),
+            store.load("com.example.Props#holds"));
+        assertEquals(
+            asList("1:2", "3:4"),
+            Files.readAllLines(
+                root.resolve("com.example.Props").resolve("holds"),
+                UTF_8));
+    }
+
+    @Test public void keepsPropertiesApart() {
+        store.save("com.example.Props#holds", "1:2");
+        store.save("com.example.Props#fails", "3:4");
+
+        assertEquals(
+            singletonList("1:2"),
+            store.load("com.example.Props#holds"));
+        assertEquals(
+            singletonList("3:4"),
+            store.load("com.example.Props#fails"));
+    }
+
+    @Test public void forgetsCounterexamples() {
+        store.save("com.example.Props#holds", "1:2");
+        store.save("com.example.Props#holds", "3:4");
+
+        store.delete("com.example.Props#holds", "1:2");
+        assertEquals(
+            singletonList("3:4"),
+            store.load("com.example.Props#holds"));
+
+        store.delete("com.example.Props#holds", "3:4");
+        assertEquals(emptyList(), store.load("com.example.Props#holds"));
+        assertFalse(
+            Files.exists(root.resolve("com.example.Props").resolve("holds")));
+    }
+}
@@ -25,91 +25,81 @@
 
 package com.pholser.junit.quickcheck.internal;
 
-import static com.google.common.collect.Lists.newArrayList;
 import static java.util.Arrays.asList;
-import static java.util.Collections.emptyIterator;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.nCopies;
 import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.StreamSupport;
 import org.junit.Test;
 
-public class CartesianIteratorTest {
+public class CartesianSpliteratorTest {
     @Test public void noSources() {
-        CartesianIterator<Integer> iter = new CartesianIterator<>(emptyList());
+        List<List<Integer>> result = product(emptyList());
 
-        List<List<Integer>> asList = newArrayList(iter);
-
-        assertEquals(0, asList.size());
+        assertEquals(0, result.size());
     }
 
     @Test public void singleSourceIsEmpty() {
-        CartesianIterator<Integer> iter =
-            new CartesianIterator<>(singletonList(emptyIterator()));
-
-        List<List<Integer>> result = newArrayList(iter);
+        List<List<Integer>> result =
+            product(singletonList(emptyList()));
 
         assertEquals(0, result.size());
     }
 
     @Test public void multipleSourcesAreEmpty() {
-        CartesianIterator<Integer> iter =
-            new CartesianIterator<>(
-                asList(emptyIterator(), emptyIterator(), emptyIterator()));
-
-        List<List<Integer>> result = newArrayList(iter);
+        List<List<Integer>> result =
+            product(
+                asList(emptyList(), emptyList(), emptyList()));
         assertEquals(0, result.size());
     }
 
     @Test public void onlyOneSourceIsEmpty() {
-        CartesianIterator<Integer> iter =
-            new CartesianIterator<>(
+        List<List<Integer>> result =
+            product(
                 asList(
-                    asList(1, 2, 3).iterator(),
-                    emptyIterator(),
-                    asList(4, 5, 6, 7).iterator()));
-
-        List<List<Integer>> result = newArrayList(iter);
+                    asList(1, 2, 3),
+                    emptyList(),
+                    asList(4, 5, 6, 7)));
 
         assertEquals(0, result.size());
     }
 
     @Test public void oneSourceOfOne() {
-        CartesianIterator<Integer> iter =
-            new CartesianIterator<>(
+        List<List<Integer>> result =
+            product(
                 singletonList(
-                    singletonList(1).iterator()));
-
-        List<List<Integer>> result = newArrayList(iter);
+                    singletonList(1)));
 
         assertEquals(singletonList(singletonList(1)), result);
     }
 
     @Test public void manySourcesOfOne() {
-        CartesianIterator<Integer> iter =
-            new CartesianIterator<>(
+        List<List<Integer>> result =
+            product(
                 asList(
-                    singletonList(1).iterator(),
-                    singletonList(2).iterator(),
-                    singletonList(3).iterator(),
-                    singletonList(4).iterator()));
-
-        List<List<Integer>> result = newArrayList(iter);
+                    singletonList(1),
+                    singletonList(2),
+                    singletonList(3),
+                    singletonList(4)));
 
         assertEquals(singletonList(asList(1, 2, 3, 4)), result);
     }
 
     @Test public void oneSourceOfManyAtPositionZero() {
-        CartesianIterator<Integer> iter =
-            new CartesianIterator<>(
+        List<List<Integer>> result =
+            product(
                 asList(
-                    asList(1, 2, 3).iterator(),
-                    singletonList(4).iterator(),
-                    singletonList(5).iterator(),
-                    singletonList(6).iterator()));
-
-        List<List<Integer>> result = newArrayList(iter);
+                    asList(1, 2, 3),
+                    singletonList(4),
+                    singletonList(5),
+                    singletonList(6)));
 
         assertEquals(
             asList(
@@ -121,15 +111,13 @@ public class CartesianIteratorTest {
     }
 
     @Test public void oneSourceOfManyAtPositionMid() {
-        CartesianIterator<Integer> iter =
-            new CartesianIterator<>(
+        List<List<Integer>> result =
+            product(
                 asList(
-                    singletonList(1).iterator(),
-                    singletonList(2).iterator(),
-                    asList(3, 4, 5).iterator(),
-                    singletonList(6).iterator()));
-
-        List<List<Integer>> result = newArrayList(iter);
+                    singletonList(1),
+                    singletonList(2),
+                    asList(3, 4, 5),
+                    singletonList(6)));
 
         assertEquals(
             asList(
@@ -140,15 +128,13 @@ public class CartesianIteratorTest {
     }
 
     @Test public void oneSourceOfManyAtPositionLast() {
-        CartesianIterator<Integer> iter =
-            new CartesianIterator<>(
+        List<List<Integer>> result =
+            product(
                 asList(
-                    singletonList(1).iterator(),
-                    singletonList(2).iterator(),
-                    singletonList(3).iterator(),
-                    asList(4, 5, 6).iterator()));
-
-        List<List<Integer>> result = newArrayList(iter);
+                    singletonList(1),
+                    singletonList(2),
+                    singletonList(3),
+                    asList(4, 5, 6)));
 
         assertEquals(
             asList(
@@ -159,15 +145,13 @@ public class CartesianIteratorTest {
     }
 
     @Test public void manySourcesOfMany() {
-        CartesianIterator<Integer> iter =
-            new CartesianIterator<>(
+        List<List<Integer>> result =
+            product(
                 asList(
-                    asList(0, 1, 2, 3, 4).iterator(),
-                    asList(5, 6).iterator(),
-                    asList(7, 8, 9).iterator(),
-                    asList(10, 11, 12).iterator()));
-
-        List<List<Integer>> result = newArrayList(iter);
+                    asList(0, 1, 2, 3, 4),
+                    asList(5, 6),
+                    asList(7, 8, 9),
+                    asList(10, 11, 12)));
 
         assertEquals(
             asList(
@@ -194,14 +178,12 @@ public class CartesianIteratorTest {
     }
 
     @Test public void manySourcesOfEqualSize() {
-        CartesianIterator<Integer> iter =
-            new CartesianIterator<>(
+        List<List<Integer>> result =
+            product(
                 asList(
-                    asList(0, 1, 2).iterator(),
-                    asList(0, 1, 2).iterator(),
-                    asList(0, 1, 2).iterator()));
-
-        List<List<Integer>> result = newArrayList(iter);
+                    asList(0, 1, 2),
+                    asList(0, 1, 2),
+                    asList(0, 1, 2)));
 
         assertEquals(
             asList(
@@ -216,4 +198,65 @@ public class CartesianIteratorTest {
                 asList(0, 2, 2), asList(1, 2, 2), asList(2, 2, 2)),
             result);
     }
+
+    @Test public void splittingByIndexRange() {
+        List<List<Integer>> tables =
+            asList(asList(0, 1, 2), asList(3, 4), asList(5, 6, 7));
+        Spliterator<List<Integer>> suffix =
+            new CartesianSpliterator<>(tables);
+
+        Spliterator<List<Integer>> prefix = suffix.trySplit();
+
+        assertEquals(9, prefix.estimateSize());
+        assertEquals(9, suffix.estimateSize());
+        List<List<Integer>> result = new ArrayList<>();
+        prefix.forEachRemaining(result::add);
+        suffix.forEachRemaining(result::add);
+        assertEquals(product(tables), result);
+    }
+
+    @Test public void noSplittingSingleTuple() {
+        Spliterator<List<Integer>> single =
+            new CartesianSpliterator<>(singletonList(singletonList(1)));
+
+        assertNull(single.trySplit());
+    }
+
+    @Test public void enumeratingInParallel() {
+        List<List<Integer>> tables =
+            asList(
+                asList(0, 1, 2, 3, 4),
+                asList(5, 6),
+                asList(7, 8, 9),
+                asList(10, 11, 12));
+
+        assertEquals(
+            product(tables),
+            StreamSupport.stream(new CartesianSpliterator<>(tables), true)
+                .collect(toList()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void productTooLargeToIndex() {
+        new CartesianSpliterator<>(nCopies(Long.SIZE, asList(0, 1)));
+    }
+
+    @Test public void tuplesAreUnaffectedByLaterTuples() {
+        Spliterator<List<Integer>> product =
+            new CartesianSpliterator<>(asList(asList(0, 1), asList(2, 3)));
+        List<List<Integer>> result = new ArrayList<>();
+
+        product.tryAdvance(result::add);
+        product.tryAdvance(result::add);
+        product.tryAdvance(result::add);
+
+        assertEquals(
+            asList(asList(0, 2), asList(1, 2), asList(0, 3)),
+            result);
+    }
+
+    private static List<List<Integer>> product(List<List<Integer>> tables) {
+        return StreamSupport.stream(new CartesianSpliterator<>(tables), false)
+            .collect(toList());
+    }
 }
@@ -0,0 +1,109 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2020 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal;
+
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class CheckpointTest {
+    @Rule public final TemporaryFolder folder = new TemporaryFolder();
+
+    private Path file;
+
+    @Before public void beforeEach() {
+        file = folder.getRoot().toPath().resolve("Props").resolve("holds");
+    }
+
+    @Test public void nothingToResumeWithoutCheckpoint() {
+        assertNull(new Checkpoint(file, "trials=10", 0).load());
+    }
+
+    @Test public void resumesFromSavedPosition() {
+        new Checkpoint(file, "trials=10", 0).save(-42L, 37);
+
+        Checkpoint.Position position =
+            new Checkpoint(file, "trials=10", 0).load();
+
+        assertEquals(-42L, position.seed());
+        assertEquals(37, position.next());
+    }
+
+    @Test public void nothingToResumeWithOtherConfiguration() {
+        new Checkpoint(file, "trials=10", 0).save(-42L, 37);
+
+        assertNull(new Checkpoint(file, "trials=11", 0).load());
+    }
+
+    @Test public void overwritesEarlierSaveLeavingNoOtherFiles()
+        throws Exception {
+
+        Checkpoint checkpoint = new Checkpoint(file, "trials=10", 0);
+        checkpoint.save(-42L, 37);
+        checkpoint.save(-42L, 38);
+
+        assertEquals(38, checkpoint.load().next());
+        try (Stream<Path> siblings = Files.list(file.getParent())) {
+            assertEquals(singletonList(file), siblings.collect(toList()));
+        }
+    }
+
+    @Test public void refusesToSaveOverFilesystemRoot() {
+        Path root = file.toAbsolutePath().getRoot();
+
+        assertThrows(
+            IllegalStateException.class,
+            () -> new Checkpoint(root, "trials=10", 0).save(-42L, 37));
+    }
+
+    @Test public void savesOnlyAfterInterval() {
+        Checkpoint checkpoint = new Checkpoint(file, "trials=10", 60_000);
+
+        checkpoint.reached(-42L, 37);
+
+        assertFalse(Files.exists(file));
+    }
+
+    @Test public void clearing() {
+        Checkpoint checkpoint = new Checkpoint(file, "trials=10", 0);
+        checkpoint.reached(-42L, 37);
+
+        checkpoint.clear();
+
+        assertNull(checkpoint.load());
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2020 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import org.junit.Test;
+
+public class ChoiceSequencesTest {
+    @Test public void noShrinksOfNoChoices() {
+        assertEquals(0, ChoiceSequences.shrinks(new long[0]).count());
+    }
+
+    @Test public void deletionsThenReductionsOfEachChoice() {
+        List<long[]> shrinks =
+            ChoiceSequences.shrinks(new long[] { 8, 0 }).collect(toList());
+
+        assertEquals(6, shrinks.size());
+        assertArrayEquals(new long[] { 8 }, shrinks.get(0));
+        assertArrayEquals(new long[] { 0 }, shrinks.get(1));
+        assertArrayEquals(new long[] { 0, 0 }, shrinks.get(2));
+        assertArrayEquals(new long[] { 4, 0 }, shrinks.get(3));
+        assertArrayEquals(new long[] { 6, 0 }, shrinks.get(4));
+        assertArrayEquals(new long[] { 7, 0 }, shrinks.get(5));
+    }
+
+    @Test public void reductionsAreUnsignedlySmaller() {
+        long[] reductions = ChoiceSequences.reductions(-1L).toArray();
+
+        assertEquals(Long.SIZE, reductions.length);
+        assertEquals(0, reductions[0]);
+        assertEquals(Long.MIN_VALUE, reductions[1]);
+        assertEquals(-1L - (-1L >>> 2), reductions[2]);
+        assertEquals(-2L, reductions[Long.SIZE - 1]);
+    }
+
+    @Test public void noReductionsOfZero() {
+        assertEquals(0, ChoiceSequences.reductions(0).count());
+    }
+
+    @Test public void shorterSequencesAreSimpler() {
+        assertTrue(
+            ChoiceSequences.simpler(new long[] { -1 }, new long[] { 0, 0 }));
+        assertFalse(
+            ChoiceSequences.simpler(new long[] { 0, 0 }, new long[] { -1 }));
+    }
+
+    @Test public void sequencesOfEqualLengthComparedUnsignedly() {
+        assertTrue(
+            ChoiceSequences.simpler(
+                new long[] { 1, Long.MAX_VALUE },
+                new long[] { 1, Long.MIN_VALUE }));
+        assertFalse(
+            ChoiceSequences.simpler(
+                new long[] { 2, 0 },
+                new long[] { 1, Long.MIN_VALUE }));
+    }
+
+    @Test public void sequenceIsNotSimplerThanItself() {
+        assertFalse(
+            ChoiceSequences.simpler(new long[] { 3 }, new long[] { 3 }));
+    }
+}
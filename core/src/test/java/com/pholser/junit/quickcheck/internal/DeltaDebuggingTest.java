@@ -0,0 +1,98 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2020 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.Test;
+
+public class DeltaDebuggingTest {
+    @Test public void nothingToRetainFromEmptySequence() {
+        assertEquals(0, DeltaDebugging.retainedRanges(0).count());
+    }
+
+    @Test public void retainingNothingFromSingleton() {
+        List<int[]> ranges =
+            DeltaDebugging.retainedRanges(1).collect(toList());
+
+        assertEquals(1, ranges.size());
+        assertArrayEquals(new int[0], ranges.get(0));
+    }
+
+    @Test public void halvesThenComplementsOfQuartersThenQuarters() {
+        List<int[]> ranges =
+            DeltaDebugging.retainedRanges(4).collect(toList());
+
+        assertEquals(10, ranges.size());
+        assertArrayEquals(new int[] { 0, 2 }, ranges.get(0));
+        assertArrayEquals(new int[] { 2, 4 }, ranges.get(1));
+        assertArrayEquals(new int[] { 1, 4 }, ranges.get(2));
+        assertArrayEquals(new int[] { 0, 1, 2, 4 }, ranges.get(3));
+        assertArrayEquals(new int[] { 0, 2, 3, 4 }, ranges.get(4));
+        assertArrayEquals(new int[] { 0, 3 }, ranges.get(5));
+        assertArrayEquals(new int[] { 0, 1 }, ranges.get(6));
+        assertArrayEquals(new int[] { 1, 2 }, ranges.get(7));
+        assertArrayEquals(new int[] { 2, 3 }, ranges.get(8));
+        assertArrayEquals(new int[] { 3, 4 }, ranges.get(9));
+    }
+
+    @Test public void finestGranularityIsSingleItems() {
+        List<int[]> ranges =
+            DeltaDebugging.retainedRanges(5).collect(toList());
+
+        // 2 halves; 4 quarters and their complements; the 2 single items
+        // that were not already quarters and their complements
+        assertEquals(2 + 8 + 4, ranges.size());
+        assertArrayEquals(new int[] { 0, 3, 4, 5 }, ranges.get(10));
+        assertArrayEquals(new int[] { 0, 4 }, ranges.get(11));
+        assertArrayEquals(new int[] { 4, 5 }, ranges.get(13));
+    }
+
+    @Test public void noPartTriedTwice() {
+        for (int length = 2; length <= 64; ++length) {
+            List<List<Integer>> ranges =
+                DeltaDebugging.retainedRanges(length)
+                    .map(r -> IntStream.of(r).boxed().collect(toList()))
+                    .collect(toList());
+
+            assertEquals(
+                "length " + length,
+                new HashSet<>(ranges).size(),
+                ranges.size());
+        }
+    }
+
+    @Test public void retainedLength() {
+        assertEquals(
+            4,
+            DeltaDebugging.retainedLength(new int[] { 0, 1, 2, 5 }));
+    }
+}
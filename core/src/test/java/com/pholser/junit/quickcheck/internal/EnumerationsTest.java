@@ -0,0 +1,132 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2020 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+
+import java.util.AbstractMap.SimpleEntry;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.Test;
+
+public class EnumerationsTest {
+    /* Items of size n are the integers n and -n. */
+    private static Stream<Integer> integersOfSize(int size) {
+        return size == 0 ? Stream.of(0) : Stream.of(size, -size);
+    }
+
+    @Test public void onlyTheEmptySequenceHasSizeZero() {
+        assertEquals(
+            asList(emptyList()),
+            Enumerations.sequencesOfSize(0, 0, 10, Stream::of)
+                .collect(toList()));
+    }
+
+    @Test public void sequencesOfGivenSize() {
+        assertEquals(
+            asList(
+                asList(0, 0),
+                asList(1),
+                asList(-1)),
+            Enumerations.sequencesOfSize(
+                2, 0, 10, EnumerationsTest::integersOfSize)
+                .collect(toList()));
+    }
+
+    @Test public void respectsMinimumLength() {
+        assertEquals(
+            asList(asList(0, 0, 0), asList(0, 1), asList(0, -1)),
+            Enumerations.sequencesOfSize(
+                3, 2, 10, EnumerationsTest::integersOfSize)
+                .filter(s -> s.get(0) == 0)
+                .collect(toList()));
+        assertEquals(
+            emptyList(),
+            Enumerations.sequencesOfSize(
+                1, 2, 10, EnumerationsTest::integersOfSize)
+                .collect(toList()));
+    }
+
+    @Test public void respectsMaximumLength() {
+        assertEquals(
+            asList(asList(2), asList(-2)),
+            Enumerations.sequencesOfSize(
+                3, 0, 1, EnumerationsTest::integersOfSize)
+                .collect(toList()));
+    }
+
+    @Test public void noSequenceIsRepeatedAcrossSizes() {
+        List<List<Integer>> sequences =
+            IntStream.rangeClosed(0, 8).boxed()
+                .flatMap(n ->
+                    Enumerations.sequencesOfSize(
+                        n, 0, 10, EnumerationsTest::integersOfSize))
+                .collect(toList());
+
+        assertEquals(
+            sequences.size(),
+            sequences.stream().distinct().count());
+    }
+
+    @Test public void distinctSequencesRuleOutTakenKeys() {
+        assertEquals(
+            asList(asList(0, 1), asList(0, -1), asList(1, 0), asList(-1, 0)),
+            Enumerations.distinctSequencesOfSize(
+                3, 0, 10, EnumerationsTest::integersOfSize, i -> i)
+                .filter(s -> s.size() == 2)
+                .collect(toList()));
+    }
+
+    @Test public void distinctSequencesFromSmallDomainsStayFew() {
+        assertEquals(
+            0,
+            Enumerations.distinctSequencesOfSize(
+                500,
+                0,
+                500,
+                n -> n == 0 ? Stream.of(0) : Stream.empty(),
+                i -> i)
+                .count());
+    }
+
+    @Test public void pairsOfGivenSize() {
+        assertEquals(
+            asList(
+                new SimpleEntry<>(0, 1),
+                new SimpleEntry<>(0, -1),
+                new SimpleEntry<>(1, 0),
+                new SimpleEntry<>(-1, 0)),
+            Enumerations.pairsOfSize(
+                1,
+                EnumerationsTest::integersOfSize,
+                EnumerationsTest::integersOfSize)
+                .collect(toList()));
+    }
+}
@@ -26,15 +26,15 @@
 package com.pholser.junit.quickcheck.internal;
 
 import static com.google.common.collect.Lists.newArrayList;
-import static com.google.common.collect.Sets.newHashSet;
 import static java.util.Collections.emptyList;
-import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertEquals;
-import static org.junit.Assert.assertThrows;
 import static org.junit.Assume.assumeThat;
 
+import com.pholser.junit.quickcheck.generator.Shrink;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+import java.util.ArrayList;
 import java.util.List;
 import org.junit.Rule;
 import org.junit.Test;
@@ -47,70 +47,75 @@ public class ListsTest {
 
     @Mock private SourceOfRandomness random;
 
-    @Test public void rejectsNegativeRemovalCount() {
-        assertThrows(
-            IllegalArgumentException.class,
-            () -> Lists.removeFrom(newArrayList("abc"), -1));
-    }
-
-    @Test public void removalsOfZeroElementsFromAList() {
-        List<Integer> target = newArrayList(1, 2, 3);
-
-        assertEquals(singletonList(target), Lists.removeFrom(target, 0));
-    }
-
-    @Test public void removalsFromAnEmptyList() {
-        assertEquals(emptyList(), Lists.removeFrom(emptyList(), 1));
-    }
-
-    @Test public void singleRemovalsFromASingletonList() {
+    @Test public void shrinksOfEmptyList() {
         assertEquals(
-            singletonList(emptyList()),
-            Lists.removeFrom(singletonList('a'), 1));
+            emptyList(),
+            Lists.shrinksOfOneItemLazily(random, emptyList(), null)
+                .collect(toList()));
     }
 
-    @Test public void singleRemovalsFromADoubletonList() {
-        assertEquals(
-            newHashSet(singletonList('a'), singletonList('b')),
-            newHashSet(Lists.removeFrom(newArrayList('a', 'b'), 1)));
-    }
+    @Test public void shrinksOfNonEmptyList() {
+        List<List<Integer>> shrinks =
+            Lists.shrinksOfOneItemLazily(
+                random,
+                newArrayList(1, 2, 3),
+                (Shrink<Integer>) (r, i) -> {
+                    assumeThat(r, sameInstance(random));
+                    return newArrayList(4, 5);
+                })
+                .collect(toList());
 
-    @Test public void doubleRemovalsFromADoubletonList() {
         assertEquals(
-            singletonList(emptyList()),
-            Lists.removeFrom(newArrayList('a', 'b'), 2));
+            newArrayList(
+                newArrayList(4, 2, 3),
+                newArrayList(5, 2, 3),
+                newArrayList(1, 4, 3),
+                newArrayList(1, 5, 3),
+                newArrayList(1, 2, 4),
+                newArrayList(1, 2, 5)),
+            shrinks);
     }
 
-    @Test public void tooManyRemovalsFromADoubletonList() {
+    @Test public void reductionsOfAList() {
         assertEquals(
-            emptyList(),
-            Lists.removeFrom(newArrayList('a', 'b'), 3));
+            newArrayList(
+                newArrayList('a'),
+                newArrayList('b', 'c'),
+                newArrayList('a', 'c'),
+                newArrayList('a', 'b'),
+                newArrayList('b'),
+                newArrayList('c')),
+            Lists.reductions(newArrayList('a', 'b', 'c')).collect(toList()));
     }
 
-    @Test public void shrinksOfEmptyList() {
+    @Test public void retainingRanges() {
         assertEquals(
-            emptyList(),
-            Lists.shrinksOfOneItem(random, emptyList(), null));
+            newArrayList('a', 'd', 'e'),
+            Lists.retain(
+                newArrayList('a', 'b', 'c', 'd', 'e'),
+                new int[] { 0, 1, 3, 5 }));
     }
 
-    @Test public void shrinksOfNonEmptyList() {
+    @Test public void shrinksOfOneItemOnlyWhenAsked() {
+        List<Integer> shrunk = new ArrayList<>();
+
         List<List<Integer>> shrinks =
-            Lists.shrinksOfOneItem(
+            Lists.shrinksOfOneItemLazily(
                 random,
                 newArrayList(1, 2, 3),
-                (r, i) -> {
-                    assumeThat(r, sameInstance(random));
+                (Shrink<Integer>) (r, i) -> {
+                    shrunk.add((Integer) i);
                     return newArrayList(4, 5);
-                });
+                })
+                .limit(3)
+                .collect(toList());
 
         assertEquals(
             newArrayList(
                 newArrayList(4, 2, 3),
                 newArrayList(5, 2, 3),
-                newArrayList(1, 4, 3),
-                newArrayList(1, 5, 3),
-                newArrayList(1, 2, 4),
-                newArrayList(1, 2, 5)),
+                newArrayList(1, 4, 3)),
             shrinks);
+        assertEquals(newArrayList(1, 2), shrunk);
     }
 }
@@ -25,25 +25,30 @@
 
 package com.pholser.junit.quickcheck.internal;
 
-import static com.pholser.junit.quickcheck.internal.Ranges.findNextPowerOfTwoLong;
+import static com.pholser.junit.quickcheck.internal.Ranges.multiplyHighUnsigned;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+import java.math.BigInteger;
 import java.util.Random;
 import org.junit.Test;
 
 public class RangesTest {
-    @Test public void checkFindNextPowerOfTwoLong() {
-        assertEquals(1, findNextPowerOfTwoLong(1));
-        assertEquals(2, findNextPowerOfTwoLong(2));
-        assertEquals(4, findNextPowerOfTwoLong(3));
-        assertEquals(4, findNextPowerOfTwoLong(4));
-        assertEquals(8, findNextPowerOfTwoLong(5));
-        assertEquals((long) 1 << 61, findNextPowerOfTwoLong((long) 1 << 61));
-        assertEquals(
-            (long) 1 << 62,
-            findNextPowerOfTwoLong(1 + (long) 1 << 61));
+    @Test public void checkMultiplyHighUnsigned() {
+        long[] operands = {
+            0L, 1L, 2L, 0xFFFFFFFFL, 1L << 32, Long.MAX_VALUE,
+            Long.MIN_VALUE, -1L, 0x9E3779B97F4A7C15L, 123_456_789_012L
+        };
+
+        for (long x : operands) {
+            for (long y : operands) {
+                assertEquals(
+                    unsigned(x).multiply(unsigned(y)).shiftRight(64)
+                        .longValue(),
+                    multiplyHighUnsigned(x, y));
+            }
+        }
     }
 
     @Test public void chooseLongsMustReturnValuesInTheExpectedRange() {
@@ -52,6 +57,22 @@ public class RangesTest {
         assertRangeOfRandomLong(Long.MIN_VALUE, Long.MIN_VALUE + 1);
         assertRangeOfRandomLong(Long.MAX_VALUE - 1, Long.MAX_VALUE);
         assertRangeOfRandomLong(Long.MIN_VALUE, Long.MAX_VALUE);
+        assertRangeOfRandomLong(Long.MIN_VALUE, 0L);
+        assertRangeOfRandomLong(-1L, Long.MAX_VALUE);
+        assertRangeOfRandomLong(-(1L << 62) - 1, (1L << 62) + 1);
+    }
+
+    @Test public void weakSanityCheckForDistributionOfChooseWideLongs() {
+        boolean[] hits = new boolean[4];
+        SourceOfRandomness random = new SourceOfRandomness(new Random(0));
+
+        for (int i = 0; i < 100; i++) {
+            long value = Ranges.choose(random, Long.MIN_VALUE, Long.MAX_VALUE - 1);
+            hits[(int) (value >>> 62)] = true;
+        }
+        for (boolean hit : hits) {
+            assertTrue(hit);
+        }
     }
 
     @Test public void weakSanityCheckForDistributionOfChooseLongs() {
@@ -68,6 +89,11 @@ public class RangesTest {
         }
     }
 
+    private static BigInteger unsigned(long value) {
+        BigInteger magnitude = BigInteger.valueOf(value);
+        return value < 0 ? magnitude.add(BigInteger.ONE.shiftLeft(64)) : magnitude;
+    }
+
     private void assertRangeOfRandomLong(long min, long max) {
         SourceOfRandomness random = new SourceOfRandomness(new Random(0));
         for (int i = 0; i < 1000; i++) {
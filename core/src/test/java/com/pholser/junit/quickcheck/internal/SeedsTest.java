@@ -0,0 +1,64 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2020 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.Test;
+
+public class SeedsTest {
+    @Test public void firstTrialUsesBaseSeed() {
+        assertEquals(-1L, Seeds.trialSeed(-1L, 0));
+        assertEquals(12345L, Seeds.trialSeed(12345L, 0));
+    }
+
+    @Test public void trialSeedsDependOnlyOnBaseAndIndex() {
+        assertEquals(Seeds.trialSeed(42L, 9731), Seeds.trialSeed(42L, 9731));
+        assertNotEquals(
+            Seeds.trialSeed(42L, 9731),
+            Seeds.trialSeed(43L, 9731));
+    }
+
+    @Test public void distinctTrialSeeds() {
+        Set<Long> seeds = new HashSet<>();
+        for (int i = 0; i < 10_000; ++i)
+            seeds.add(Seeds.trialSeed(0L, i));
+
+        assertEquals(10_000, seeds.size());
+    }
+
+    @Test public void distinctParameterSeeds() {
+        Set<Long> seeds = new HashSet<>();
+        seeds.add(Seeds.repositorySeed(7L));
+        for (int i = 0; i < 100; ++i)
+            seeds.add(Seeds.parameterSeed(7L, i));
+
+        assertEquals(101, seeds.size());
+    }
+}
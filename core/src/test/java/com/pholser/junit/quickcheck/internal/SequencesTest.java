@@ -26,13 +26,17 @@
 package com.pholser.junit.quickcheck.internal;
 
 import static com.google.common.collect.Lists.newArrayList;
+import static java.util.stream.Collectors.toList;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThrows;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.stream.Stream;
 import org.junit.Test;
 
 public class SequencesTest {
@@ -84,10 +88,50 @@ public class SequencesTest {
                     BigDecimal.ZERO)));
     }
 
-    @Test public void halvingInts() {
+    @Test public void halvingLongs() {
         assertEquals(
-            newArrayList(27, 13, 6, 3, 1),
-            newArrayList(Sequences.halving(27)));
+            newArrayList(5L, 7L, 8L, 9L),
+            Sequences.halvingLong(10, 0).boxed().collect(toList()));
+    }
+
+    @Test public void halvingNegativeLongs() {
+        assertEquals(
+            newArrayList(-5L, -7L, -8L, -9L),
+            Sequences.halvingLong(-10, 0).boxed().collect(toList()));
+    }
+
+    @Test public void halvingLongsAcrossWholeRange() {
+        List<Long> halved =
+            Sequences.halvingLong(Long.MAX_VALUE, Long.MIN_VALUE)
+                .boxed()
+                .collect(toList());
+
+        assertEquals(Long.valueOf(-1), halved.get(0));
+        assertEquals(
+            Long.valueOf(Long.MAX_VALUE - 1),
+            halved.get(halved.size() - 1));
+    }
+
+    @Test public void halvingDoubles() {
+        List<Double> halved =
+            Sequences.halvingDouble(10, 0).boxed().collect(toList());
+
+        assertEquals(newArrayList(5D, 7.5D, 8.75D), halved.subList(0, 3));
+        assertEquals(Double.valueOf(10), halved.get(halved.size() - 1));
+    }
+
+    @Test public void halvingNegativeDoubles() {
+        List<Double> halved =
+            Sequences.halvingDouble(-10, 0).boxed().collect(toList());
+
+        assertEquals(newArrayList(-5D, -7.5D, -8.75D), halved.subList(0, 3));
+        assertEquals(Double.valueOf(-10), halved.get(halved.size() - 1));
+    }
+
+    @Test public void halvingDoublesTowardNaNStops() {
+        assertEquals(
+            newArrayList(Double.NaN),
+            Sequences.halvingDouble(Double.NaN, 0).boxed().collect(toList()));
     }
 
     @Test public void callingNextOutOfSequenceOnHalvingBigIntegers() {
@@ -108,10 +152,31 @@ public class SequencesTest {
         assertThrows(NoSuchElementException.class, i::next);
     }
 
-    @Test public void callingNextOutOfSequenceOnHalvingInts() {
-        Iterator<Integer> i = Sequences.halving(0).iterator();
-        i.next();
+    @Test public void flatMappingLazily() {
+        List<Integer> mapped = new ArrayList<>();
 
-        assertThrows(NoSuchElementException.class, i::next);
+        Iterator<Integer> flattened =
+            Sequences.flatMapLazily(
+                Stream.of(1, 2, 3),
+                i -> {
+                    mapped.add(i);
+                    return Stream.of(i, i * 10);
+                })
+                .iterator();
+
+        assertEquals(Integer.valueOf(1), flattened.next());
+        assertEquals(Integer.valueOf(10), flattened.next());
+        assertEquals(newArrayList(1), mapped);
+        assertEquals(Integer.valueOf(2), flattened.next());
+        assertEquals(newArrayList(1, 2), mapped);
+    }
+
+    @Test public void flatMappingLazilySkipsEmptyStreams() {
+        assertEquals(
+            newArrayList(3, 3, 3),
+            Sequences.flatMapLazily(
+                Stream.of(0, 3, 0),
+                i -> Stream.generate(() -> i).limit(i))
+                .collect(toList()));
     }
 }
@@ -25,13 +25,34 @@
 
 package com.pholser.junit.quickcheck.internal.generator;
 
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.when;
 
+import com.pholser.junit.quickcheck.generator.Gen;
+import com.pholser.junit.quickcheck.generator.GenerationStatus;
+import com.pholser.junit.quickcheck.generator.Generator;
+import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+import com.pholser.junit.quickcheck.test.generator.AnInt;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
 
 public class ArrayGeneratorTest {
+    @Rule public final MockitoRule mockito = MockitoJUnit.rule();
+
+    @Mock private SourceOfRandomness random;
+    @Mock private GenerationStatus status;
+
     private ArrayGenerator intArrayGenerator;
 
     @Before public void setUp() {
@@ -50,4 +71,89 @@ public class ArrayGeneratorTest {
     capabilityOfShrinkingArrayOfEquivalentWrapperComponentType() {
         assertFalse(intArrayGenerator.canShrink(new Integer[0]));
     }
+
+    @Test public void primitiveComponentsGeneratedWithoutBoxing() {
+        when(status.size()).thenReturn(4);
+        ArrayGenerator generator =
+            new ArrayGenerator(long.class, new Counting());
+
+        Object generated = generator.generate(random, status);
+
+        assertArrayEquals(new long[] { 0, 1, 2, 3 }, (long[]) generated);
+    }
+
+    @Test public void shrinksPrimitiveArraysByReductionsThenSmallerItems() {
+        ArrayGenerator generator = new ArrayGenerator(int.class, new AnInt());
+
+        List<Object> shrinks = generator.shrink(random, new int[] { 4, 6 });
+
+        assertEquals(4, shrinks.size());
+        assertArrayEquals(new int[] { 4 }, (int[]) shrinks.get(0));
+        assertArrayEquals(new int[] { 6 }, (int[]) shrinks.get(1));
+        assertArrayEquals(new int[] { 2, 6 }, (int[]) shrinks.get(2));
+        assertArrayEquals(new int[] { 4, 3 }, (int[]) shrinks.get(3));
+    }
+
+    @Test public void shrinksReferenceArrays() {
+        ArrayGenerator generator = new ArrayGenerator(Integer.class, new AnInt());
+
+        List<Object> shrinks =
+            generator.shrink(random, new Integer[] { 1, 2, 3 });
+
+        assertArrayEquals(new Integer[] { 1 }, (Integer[]) shrinks.get(0));
+        assertArrayEquals(new Integer[] { 2, 3 }, (Integer[]) shrinks.get(1));
+        assertArrayEquals(new Integer[] { 1, 3 }, (Integer[]) shrinks.get(2));
+        assertArrayEquals(new Integer[] { 3 }, (Integer[]) shrinks.get(5));
+        assertArrayEquals(
+            new Integer[] { 0, 2, 3 },
+            (Integer[]) shrinks.get(6));
+    }
+
+    @Test public void shrinksItemsOnlyWhenAsked() {
+        List<Integer> shrunk = new ArrayList<>();
+        ArrayGenerator generator =
+            new ArrayGenerator(Integer.class, new AnInt() {
+                @Override public List<Integer> doShrink(
+                    SourceOfRandomness random,
+                    Integer larger) {
+
+                    shrunk.add(larger);
+                    return super.doShrink(random, larger);
+                }
+            });
+
+        List<Object> shrinks =
+            generator.shrinkLazily(random, new Integer[] { 1, 2, 3 })
+                .limit(7)
+                .collect(toList());
+
+        assertEquals(asList(1), shrunk);
+        assertArrayEquals(
+            new Integer[] { 0, 2, 3 },
+            (Integer[]) shrinks.get(6));
+    }
+
+    public static class Counting extends Generator<Long>
+        implements Gen.OfLong {
+
+        private long next;
+
+        public Counting() {
+            super(asList(Long.class, long.class));
+        }
+
+        @Override public Long generate(
+            SourceOfRandomness random,
+            GenerationStatus status) {
+
+            throw new AssertionError("boxed value generated");
+        }
+
+        @Override public long generateLong(
+            SourceOfRandomness random,
+            GenerationStatus status) {
+
+            return next++;
+        }
+    }
 }
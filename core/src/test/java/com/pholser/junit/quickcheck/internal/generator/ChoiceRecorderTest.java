@@ -0,0 +1,81 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2020 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal.generator;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+
+import com.pholser.junit.quickcheck.random.SplitMix64Random;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ChoiceRecorderTest {
+    private ChoiceRecorder recorder;
+
+    @Before public void beforeEach() {
+        recorder = new ChoiceRecorder(new SplitMix64Random(1L));
+    }
+
+    @Test public void recordsChoicesSinceRestart() {
+        recorder.nextInt();
+        recorder.restart();
+        int i = recorder.nextInt(10);
+        double d = recorder.nextDouble();
+
+        long[] choices = recorder.choices();
+        assertEquals(2, choices.length);
+
+        recorder.replay(choices, choices.length);
+        assertEquals(i, recorder.nextInt(10));
+        assertEquals(d, recorder.nextDouble(), 0D);
+    }
+
+    @Test public void choicesPastEndOfReplayAreZero() {
+        recorder.replay(new long[0], 5);
+
+        assertEquals(0, recorder.nextInt());
+        assertEquals(0, recorder.nextInt(7));
+        assertFalse(recorder.nextBoolean());
+        assertEquals(0D, recorder.nextGaussian(), 0D);
+        assertArrayEquals(new long[5], recorder.choices());
+    }
+
+    @Test public void replayOverrunsPastLimit() {
+        recorder.replay(new long[] { 1 }, 1);
+        recorder.nextLong();
+
+        assertThrows(ChoiceRecorder.Overrun.class, recorder::nextLong);
+    }
+
+    @Test public void reseedingRecordsAgain() {
+        recorder.replay(new long[0], 0);
+        recorder.setSeed(2L);
+
+        assertEquals(new SplitMix64Random(2L).nextLong(), recorder.nextLong());
+    }
+}
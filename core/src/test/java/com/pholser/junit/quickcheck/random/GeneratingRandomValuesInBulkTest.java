@@ -0,0 +1,136 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2020 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.BitSet;
+import java.util.Random;
+import org.junit.Before;
+import org.junit.Test;
+
+public class GeneratingRandomValuesInBulkTest {
+    private SourceOfRandomness bulk;
+    private SourceOfRandomness single;
+
+    @Before public void beforeEach() {
+        bulk = new SourceOfRandomness(new LinearCongruentialRandom());
+        bulk.setSeed(11L);
+        single = new SourceOfRandomness(new Random());
+        single.setSeed(11L);
+    }
+
+    @Test public void intsMatchSingleDraws() {
+        int[] values = new int[100];
+
+        bulk.nextInts(values, -3, 1_000_000);
+
+        for (int value : values)
+            assertEquals(single.nextInt(-3, 1_000_000), value);
+    }
+
+    @Test public void intsOverWholeRange() {
+        int[] values = new int[100];
+
+        bulk.nextInts(values, Integer.MIN_VALUE, Integer.MAX_VALUE);
+
+        for (int value : values)
+            assertEquals(
+                single.nextInt(Integer.MIN_VALUE, Integer.MAX_VALUE),
+                value);
+    }
+
+    @Test public void longsMatchSingleDraws() {
+        long[] values = new long[100];
+
+        bulk.nextLongs(values, -5L, 1L << 40);
+
+        for (long value : values)
+            assertEquals(single.nextLong(-5L, 1L << 40), value);
+    }
+
+    @Test public void longsOverWholeRange() {
+        long[] values = new long[100];
+
+        bulk.nextLongs(values, Long.MIN_VALUE, Long.MAX_VALUE);
+
+        for (long value : values)
+            assertEquals(single.nextLong(Long.MIN_VALUE, Long.MAX_VALUE), value);
+    }
+
+    @Test public void doublesMatchSingleDraws() {
+        double[] values = new double[100];
+
+        bulk.nextDoubles(values, -1.5, 2.5);
+
+        for (double value : values)
+            assertEquals(single.nextDouble(-1.5, 2.5), value, 0D);
+    }
+
+    @Test public void singletonIntervals() {
+        int[] ints = new int[3];
+        long[] longs = new long[3];
+        double[] doubles = new double[3];
+
+        bulk.nextInts(ints, 4, 4);
+        bulk.nextLongs(longs, -2L, -2L);
+        bulk.nextDoubles(doubles, 0.5, 0.5);
+
+        assertArrayEquals(new int[] { 4, 4, 4 }, ints);
+        assertArrayEquals(new long[] { -2L, -2L, -2L }, longs);
+        assertArrayEquals(new double[] { 0.5, 0.5, 0.5 }, doubles, 0D);
+        assertEquals(single.nextLong(), bulk.nextLong());
+    }
+
+    @Test public void booleansArePackedLongs() {
+        long[] words = new long[4];
+
+        bulk.nextBooleans(words);
+
+        for (long word : words)
+            assertEquals(single.nextLong(), word);
+        assertEquals(
+            BitSet.valueOf(words).cardinality(),
+            Long.bitCount(words[0]) + Long.bitCount(words[1])
+                + Long.bitCount(words[2]) + Long.bitCount(words[3]));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void badIntRange() {
+        bulk.nextInts(new int[1], 1, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void badLongRange() {
+        bulk.nextLongs(new long[1], 1L, 0L);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void badDoubleRange() {
+        bulk.nextDoubles(new double[1], 1D, 0D);
+    }
+}
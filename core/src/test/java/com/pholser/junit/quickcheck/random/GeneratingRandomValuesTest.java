@@ -28,11 +28,13 @@ package com.pholser.junit.quickcheck.random;
 import static java.util.Arrays.asList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.junit.runners.MethodSorters.NAME_ASCENDING;
 
 import java.time.Duration;
@@ -256,6 +258,42 @@ public class GeneratingRandomValuesTest {
                 lessThanOrEqualTo(max)));
     }
 
+    @Test public void nextInstantAcrossSecondBoundary() {
+        Instant min = Instant.ofEpochSecond(0, 999_999_998);
+        Instant max = Instant.ofEpochSecond(1, 1);
+
+        for (int i = 0; i < 1_000; ++i) {
+            assertThat(
+                source.nextInstant(min, max),
+                allOf(
+                    greaterThanOrEqualTo(min),
+                    lessThanOrEqualTo(max)));
+        }
+    }
+
+    @Test public void nextInstantAcrossWholeRange() {
+        for (int i = 0; i < 1_000; ++i) {
+            assertThat(
+                source.nextInstant(Instant.MIN, Instant.MAX),
+                allOf(
+                    greaterThanOrEqualTo(Instant.MIN),
+                    lessThanOrEqualTo(Instant.MAX)));
+        }
+    }
+
+    @Test public void nextDurationAcrossWidestRange() {
+        Duration min = Duration.ofSeconds(Long.MIN_VALUE);
+        Duration max = Duration.ofSeconds(Long.MAX_VALUE, 999_999_999);
+
+        for (int i = 0; i < 1_000; ++i) {
+            assertThat(
+                source.nextDuration(min, max),
+                allOf(
+                    greaterThanOrEqualTo(min),
+                    lessThanOrEqualTo(max)));
+        }
+    }
+
     @Test public void samplingArray() {
         assertEquals(
             "c",
@@ -267,4 +305,40 @@ public class GeneratingRandomValuesTest {
             Integer.valueOf(-1),
             source.choose(asList(-1, -2, -3, -4, -5)));
     }
+
+    @Test public void forkingDoesNotCopyTheEngine() {
+        SourceOfRandomness unserializable =
+            new SourceOfRandomness(new UnserializableRandom());
+        unserializable.setSeed(5L);
+
+        SourceOfRandomness fork = unserializable.fork();
+
+        assertEquals(
+            new Random(fork.seed()).nextLong(),
+            fork.nextLong());
+    }
+
+    @Test public void snapshotOfUncopyableEngineNamesIt() {
+        SourceOfRandomness unserializable =
+            new SourceOfRandomness(new UnserializableRandom());
+
+        try {
+            unserializable.snapshot();
+            fail();
+        } catch (IllegalStateException expected) {
+            assertThat(
+                expected.getMessage(),
+                containsString(UnserializableRandom.class.getName()));
+        }
+    }
+
+    public static class UnserializableRandom extends Random {
+        private static final long serialVersionUID = Long.MIN_VALUE;
+
+        private final Thread owner = Thread.currentThread();
+
+        public Thread owner() {
+            return owner;
+        }
+    }
 }
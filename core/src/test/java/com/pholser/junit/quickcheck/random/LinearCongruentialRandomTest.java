@@ -0,0 +1,72 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2020 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+import org.junit.Test;
+
+public class LinearCongruentialRandomTest {
+    @Test public void sameValuesAsJavaUtilRandom() {
+        Random expected = new Random(-1L);
+        Random actual = new LinearCongruentialRandom(-1L);
+
+        for (int i = 0; i < 1_000; ++i) {
+            assertEquals(expected.nextInt(), actual.nextInt());
+            assertEquals(expected.nextInt(i + 1), actual.nextInt(i + 1));
+            assertEquals(expected.nextLong(), actual.nextLong());
+            assertEquals(expected.nextBoolean(), actual.nextBoolean());
+            assertEquals(expected.nextDouble(), actual.nextDouble(), 0D);
+            assertEquals(expected.nextFloat(), actual.nextFloat(), 0F);
+            assertEquals(expected.nextGaussian(), actual.nextGaussian(), 0D);
+        }
+    }
+
+    @Test public void sameBytesAsJavaUtilRandom() {
+        byte[] expected = new byte[37];
+        byte[] actual = new byte[37];
+
+        new Random(42L).nextBytes(expected);
+        new LinearCongruentialRandom(42L).nextBytes(actual);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test public void reseedingMatchesJavaUtilRandom() {
+        Random expected = new Random();
+        Random actual = new LinearCongruentialRandom();
+        expected.nextGaussian();
+        actual.nextGaussian();
+
+        expected.setSeed(3L);
+        actual.setSeed(3L);
+
+        assertEquals(expected.nextGaussian(), actual.nextGaussian(), 0D);
+        assertEquals(expected.nextLong(), actual.nextLong());
+    }
+}
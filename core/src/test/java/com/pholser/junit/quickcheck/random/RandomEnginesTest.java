@@ -0,0 +1,191 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2020 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.random;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+import java.util.function.LongFunction;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameter;
+import org.junit.runners.Parameterized.Parameters;
+
+@RunWith(Parameterized.class)
+public class RandomEnginesTest {
+    @Parameters(name = "{0}")
+    public static Iterable<Object[]> engines() {
+        return asList(
+            new Object[] {
+                "jdk",
+                (LongFunction<Random>) Random::new
+            },
+            new Object[] {
+                "linear congruential",
+                (LongFunction<Random>) LinearCongruentialRandom::new
+            },
+            new Object[] {
+                "splitmix64",
+                (LongFunction<Random>) SplitMix64Random::new
+            },
+            new Object[] {
+                "xoshiro256**",
+                (LongFunction<Random>) Xoshiro256StarStarRandom::new
+            });
+    }
+
+    @Parameter public String name;
+    @Parameter(1) public LongFunction<Random> engine;
+
+    @Test public void sameSeedSameValues() {
+        assertArrayEquals(draws(engine.apply(42L)), draws(engine.apply(42L)));
+    }
+
+    @Test public void differentSeedsDifferentValues() {
+        assertNotEquals(
+            asList(draws(engine.apply(42L))),
+            asList(draws(engine.apply(43L))));
+    }
+
+    @Test public void setSeedRestartsSequence() {
+        Random random = engine.apply(7L);
+        Object[] first = draws(random);
+        random.nextGaussian();
+
+        random.setSeed(7L);
+
+        assertArrayEquals(first, draws(random));
+    }
+
+    @Test public void sourceOfRandomnessKeepsSeedContract() {
+        SourceOfRandomness source =
+            new SourceOfRandomness(engine.apply(0L));
+        source.setSeed(-1L);
+        long first = source.nextLong();
+
+        source.setSeed(-1L);
+
+        assertEquals(-1L, source.seed());
+        assertEquals(first, source.nextLong());
+    }
+
+    @Test public void cloneContinuesSequence() {
+        SourceOfRandomness source =
+            new SourceOfRandomness(engine.apply(0L));
+        source.setSeed(1L);
+        source.nextGaussian();
+
+        Random clone = source.toJDKRandom();
+
+        assertEquals(engine.apply(0L).getClass(), clone.getClass());
+        assertEquals(source.nextGaussian(), clone.nextGaussian(), 0D);
+        assertEquals(source.nextLong(), clone.nextLong());
+    }
+
+    @Test public void restoringSnapshotRewindsSequence() {
+        SourceOfRandomness source =
+            new SourceOfRandomness(engine.apply(0L));
+        source.setSeed(5L);
+        source.nextGaussian();
+        SourceOfRandomness.Snapshot snapshot = source.snapshot();
+        Object[] first = draws(source);
+
+        source.setSeed(6L);
+        source.restore(snapshot);
+
+        assertEquals(5L, source.seed());
+        assertArrayEquals(first, draws(source));
+
+        source.restore(snapshot);
+
+        assertArrayEquals(first, draws(source));
+    }
+
+    @Test public void forkIsIndependentButDeterministic() {
+        SourceOfRandomness source =
+            new SourceOfRandomness(engine.apply(0L));
+        source.setSeed(9L);
+        SourceOfRandomness fork = source.fork();
+        long afterFork = source.nextLong();
+        Object[] forked = draws(fork.toJDKRandom());
+
+        source.setSeed(9L);
+        SourceOfRandomness again = source.fork();
+
+        assertEquals(afterFork, source.nextLong());
+        assertEquals(fork.seed(), again.seed());
+        assertArrayEquals(forked, draws(again.toJDKRandom()));
+        assertEquals(
+            engine.apply(0L).getClass(),
+            fork.toJDKRandom().getClass());
+    }
+
+    @Test public void boundedDrawsStayInBounds() {
+        Random random = engine.apply(3L);
+
+        for (int i = 0; i < 10_000; ++i) {
+            int n = random.nextInt(7);
+            double d = random.nextDouble();
+            float f = random.nextFloat();
+
+            assertTrue(n >= 0 && n < 7);
+            assertTrue(d >= 0 && d < 1);
+            assertTrue(f >= 0 && f < 1);
+        }
+    }
+
+    private static Object[] draws(Random random) {
+        return new Object[] {
+            random.nextLong(),
+            random.nextInt(),
+            random.nextInt(1000),
+            random.nextBoolean(),
+            random.nextDouble(),
+            random.nextFloat(),
+            random.nextGaussian(),
+            random.nextGaussian(),
+            random.nextGaussian()
+        };
+    }
+
+    private static Object[] draws(SourceOfRandomness source) {
+        return new Object[] {
+            source.nextLong(),
+            source.nextInt(),
+            source.nextInt(1000),
+            source.nextBoolean(),
+            source.nextDouble(),
+            source.nextGaussian(),
+            source.nextGaussian(),
+            source.nextGaussian()
+        };
+    }
+}
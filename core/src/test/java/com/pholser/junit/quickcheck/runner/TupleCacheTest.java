@@ -0,0 +1,150 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2020 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.runner;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import org.junit.Test;
+
+public class TupleCacheTest {
+    @Test public void remembersTuples() {
+        TupleCache cache = new TupleCache(10, null);
+
+        assertFalse(cache.alreadyVerified(new Object[] { 1, "a" }));
+        assertFalse(cache.alreadyVerified(new Object[] { 2, "a" }));
+        assertTrue(cache.alreadyVerified(new Object[] { 1, "a" }));
+        assertEquals(1, cache.skipped());
+    }
+
+    @Test public void remembersNothingWhenDisabled() {
+        TupleCache cache = new TupleCache(0, null);
+
+        assertFalse(cache.enabled());
+        assertFalse(cache.alreadyVerified(new Object[] { 1 }));
+        assertFalse(cache.alreadyVerified(new Object[] { 1 }));
+        assertEquals(0, cache.skipped());
+    }
+
+    @Test public void stopsRememberingAtCapacity() {
+        TupleCache cache = new TupleCache(2, null);
+
+        for (int i = 0; i < 5; ++i)
+            cache.alreadyVerified(new Object[] { i });
+
+        assertTrue(cache.alreadyVerified(new Object[] { 1 }));
+        assertFalse(cache.alreadyVerified(new Object[] { 2 }));
+        assertFalse(cache.alreadyVerified(new Object[] { 2 }));
+    }
+
+    @Test public void identifiesTuplesByFingerprint() {
+        TupleCache cache =
+            new TupleCache(10, args -> ((String) args[0]).length());
+
+        assertFalse(cache.alreadyVerified(new Object[] { "ab" }));
+        assertTrue(cache.alreadyVerified(new Object[] { "cd" }));
+    }
+
+    @Test public void doesNotSkipTuplesThatCollideUnderHashCode() {
+        TupleCache cache = new TupleCache(10, null);
+        Object[] first = { new int[] { 0, 31 }, "Aa" };
+        Object[] second = { new int[] { 1, 0 }, "BB" };
+        assertEquals(
+            Arrays.deepHashCode(first),
+            Arrays.deepHashCode(second));
+
+        assertFalse(cache.alreadyVerified(first));
+        assertFalse(cache.alreadyVerified(second));
+        assertTrue(
+            cache.alreadyVerified(new Object[] { new int[] { 1, 0 }, "BB" }));
+        assertEquals(1, cache.skipped());
+    }
+
+    @Test public void doesNotSkipTuplesWhoseFingerprintsCollideUnderHashCode() {
+        TupleCache cache =
+            new TupleCache(10, args -> (int) args[0] == 1 ? "Aa" : "BB");
+
+        assertFalse(cache.alreadyVerified(new Object[] { 1 }));
+        assertFalse(cache.alreadyVerified(new Object[] { 2 }));
+        assertTrue(cache.alreadyVerified(new Object[] { 2 }));
+    }
+
+    @Test public void remembersTuplesAsTheyWereWhenVerified() {
+        TupleCache cache = new TupleCache(10, null);
+        int[] values = { 1, 2 };
+
+        assertFalse(cache.alreadyVerified(new Object[] { values }));
+        values[0] = 3;
+
+        assertTrue(cache.alreadyVerified(new Object[] { new int[] { 1, 2 } }));
+        assertFalse(cache.alreadyVerified(new Object[] { values }));
+    }
+
+    @Test public void checksIndependentlyOfHash() {
+        assertNotEquals(TupleCache.hash("a"), TupleCache.check("a"));
+        assertNotEquals(
+            TupleCache.hash(asList(1, 2)),
+            TupleCache.check(asList(1, 2)));
+    }
+
+    @Test public void hashesPrimitiveArraysByElement() {
+        assertEquals(
+            Arrays.hashCode(new int[] { 0, 31 }),
+            Arrays.hashCode(new int[] { 1, 0 }));
+        assertNotEquals(
+            TupleCache.hash(new int[] { 0, 31 }),
+            TupleCache.hash(new int[] { 1, 0 }));
+    }
+
+    @Test public void hashesSetsRegardlessOfOrder() {
+        assertEquals(
+            TupleCache.hash(new LinkedHashSet<>(asList(1, 2, 3))),
+            TupleCache.hash(new LinkedHashSet<>(asList(3, 1, 2))));
+    }
+
+    @Test public void hashesListsInOrder() {
+        assertNotEquals(
+            TupleCache.hash(asList(1, 2)),
+            TupleCache.hash(asList(2, 1)));
+    }
+
+    @Test public void hashesStringsBeyondTheirHashCodes() {
+        assertEquals("Aa".hashCode(), "BB".hashCode());
+        assertNotEquals(TupleCache.hash("Aa"), TupleCache.hash("BB"));
+    }
+
+    @Test public void hashesBigIntegersByValue() {
+        assertNotEquals(
+            TupleCache.hash(BigInteger.ONE.shiftLeft(64)),
+            TupleCache.hash(BigInteger.ONE.shiftLeft(65)));
+    }
+}
@@ -29,6 +29,7 @@ import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.stream.Collectors.toList;
 
+import com.pholser.junit.quickcheck.generator.Gen;
 import com.pholser.junit.quickcheck.generator.GenerationStatus;
 import com.pholser.junit.quickcheck.generator.Generator;
 import com.pholser.junit.quickcheck.internal.Comparables;
@@ -37,7 +38,7 @@ import java.math.BigDecimal;
 import java.util.List;
 import java.util.stream.Stream;
 
-public class AnInt extends Generator<Integer> {
+public class AnInt extends Generator<Integer> implements Gen.OfInt {
     private Between range;
 
     public AnInt() {
@@ -52,6 +53,13 @@ public class AnInt extends Generator<Integer> {
         SourceOfRandomness random,
         GenerationStatus status) {
 
+        return generateInt(random, status);
+    }
+
+    @Override public int generateInt(
+        SourceOfRandomness random,
+        GenerationStatus status) {
+
         return range == null
             ? random.nextInt()
             : random.nextInt(range.min(), range.max());
@@ -26,7 +26,9 @@
 package com.pholser.junit.quickcheck.generator;
 
 import static com.pholser.junit.quickcheck.internal.Sequences.halvingDecimal;
+import static com.pholser.junit.quickcheck.internal.Sequences.halvingDouble;
 import static com.pholser.junit.quickcheck.internal.Sequences.halvingIntegral;
+import static com.pholser.junit.quickcheck.internal.Sequences.halvingLong;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
@@ -36,6 +38,7 @@ import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.DoubleFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -63,10 +66,6 @@ public abstract class DecimalGenerator<T extends Number> extends Generator<T> {
         if (largestGeneric.equals(leastMagnitude()))
             return emptyList();
 
-        // We work with BigDecimal, so convert all inputs
-        BigDecimal largest = widen().apply(largestGeneric);
-        BigDecimal least = widen().apply(leastMagnitude());
-
         List<T> results = new ArrayList<>();
 
         // Positive numbers are considered easier than negative ones
@@ -80,12 +79,40 @@ public abstract class DecimalGenerator<T extends Number> extends Generator<T> {
         // increments as we approach the largest
 
         // Integrals are considered easier than decimals
-        results.addAll(shrunkenIntegrals(largest, least));
-        results.addAll(shrunkenDecimals(largest, least));
+        DoubleFunction<T> narrowDouble = narrowDouble();
+        double largest = largestGeneric.doubleValue();
+        double least = leastMagnitude().doubleValue();
+        if (narrowDouble != null && fitsInLong(largest) && fitsInLong(least)) {
+            results.addAll(
+                shrunkenIntegrals(largest, least, narrowDouble));
+            results.addAll(
+                shrinksFrom(
+                    halvingDouble(largest, least).mapToObj(narrowDouble)));
+        } else {
+            // We work with BigDecimal, so convert all inputs
+            BigDecimal largestDecimal = widen().apply(largestGeneric);
+            BigDecimal leastDecimal = widen().apply(leastMagnitude());
+            results.addAll(shrunkenIntegrals(largestDecimal, leastDecimal));
+            results.addAll(shrunkenDecimals(largestDecimal, leastDecimal));
+        }
 
         return results;
     }
 
+    private static boolean fitsInLong(double d) {
+        return Math.abs(d) < 0x1p63;
+    }
+
+    private List<T> shrunkenIntegrals(
+        double largest,
+        double least,
+        DoubleFunction<T> narrowDouble) {
+
+        return shrinksFrom(
+            halvingLong((long) largest, (long) least)
+                .mapToObj(n -> narrowDouble.apply(n)));
+    }
+
     private List<T> shrunkenIntegrals(BigDecimal largest, BigDecimal least) {
         return decimalsFrom(
             stream(
@@ -105,8 +132,11 @@ public abstract class DecimalGenerator<T extends Number> extends Generator<T> {
     }
 
     private List<T> decimalsFrom(Stream<BigDecimal> stream) {
+        return shrinksFrom(stream.map(narrow()));
+    }
+
+    private List<T> shrinksFrom(Stream<T> stream) {
       return stream.limit(15)
-          .map(narrow())
           .filter(inRange())
           .distinct()
           .collect(toList());
@@ -124,6 +154,22 @@ public abstract class DecimalGenerator<T extends Number> extends Generator<T> {
      */
     protected abstract Function<BigDecimal, T> narrow();
 
+    /**
+     * <p>For base types whose values all fit in a {@code double}, gives a
+     * function converting a {@code double} into the equivalent value in the
+     * base type, so that shrinking can work with {@code double}s instead of
+     * {@link BigDecimal}s.</p>
+     *
+     * <p>If not overridden, this implementation returns {@code null},
+     * meaning that shrinking works with {@link BigDecimal}s.</p>
+     *
+     * @return a function converting a {@code double} into the equivalent
+     * value in the base type, or {@code null}
+     */
+    protected DoubleFunction<T> narrowDouble() {
+        return null;
+    }
+
     /**
      * @return a predicate checking whether its input is in the configured
      * range
@@ -26,6 +26,7 @@
 package com.pholser.junit.quickcheck.generator;
 
 import static com.pholser.junit.quickcheck.internal.Sequences.halvingIntegral;
+import static com.pholser.junit.quickcheck.internal.Sequences.halvingLong;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
@@ -36,7 +37,9 @@ import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
+import java.util.function.LongFunction;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * Base class for generators of integral types, such as {@code int} and
@@ -48,6 +51,8 @@ import java.util.function.Predicate;
 public abstract class IntegralGenerator<T extends Number>
     extends Generator<T> {
 
+    private boolean ranged;
+
     protected IntegralGenerator(Class<T> type) {
         super(singletonList(type));
     }
@@ -60,7 +65,7 @@ public abstract class IntegralGenerator<T extends Number>
         if (larger.equals(leastMagnitude()))
             return emptyList();
 
-        List<T> results =new ArrayList<>();
+        List<T> results = new ArrayList<>();
 
         // Positive numbers are considered easier than negative ones
         if (negative(larger))
@@ -72,15 +77,8 @@ public abstract class IntegralGenerator<T extends Number>
         // Try values between smallest and largest, with smaller and smaller
         // increments as we approach the largest
         results.addAll(
-            stream(
-                halvingIntegral(
-                    // We work with BigInteger, so convert all inputs
-                    widen().apply(larger),
-                    widen().apply(leastMagnitude())
-                ).spliterator(),
-                false)
+            between(larger)
                 .limit(15)
-                .map(narrow())
                 .filter(inRange())
                 .distinct()
                 .collect(toList()));
@@ -88,6 +86,64 @@ public abstract class IntegralGenerator<T extends Number>
         return results;
     }
 
+    private Stream<T> between(T larger) {
+        LongFunction<T> narrowLong = narrowLong();
+        if (narrowLong != null) {
+            return halvingLong(larger.longValue(), leastMagnitude().longValue())
+                .mapToObj(narrowLong);
+        }
+
+        // We work with BigInteger, so convert all inputs
+        return stream(
+            halvingIntegral(
+                widen().apply(larger),
+                widen().apply(leastMagnitude())
+            ).spliterator(),
+            false)
+            .map(narrow());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Only generators whose range has been
+     * {@linkplain #rangeConfigured() configured} enumerate their values.</p>
+     */
+    @Override public boolean canEnumerate() {
+        return ranged;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The size of a number is its distance from the
+     * {@linkplain #leastMagnitude() number of least magnitude}: the values of
+     * size {@code n} are that number plus {@code n} and minus {@code n}, when
+     * they are in the configured range.</p>
+     */
+    @Override public Stream<T> enumerateOfSize(int size) {
+        BigInteger least = widen().apply(leastMagnitude());
+        BigInteger distance = BigInteger.valueOf(size);
+        Stream<BigInteger> candidates =
+            size == 0
+                ? Stream.of(least)
+                : Stream.of(least.add(distance), least.subtract(distance));
+
+        return candidates
+            .filter(n -> widen().apply(narrow().apply(n)).equals(n))
+            .map(narrow())
+            .filter(inRange());
+    }
+
+    /**
+     * Tells this generator that its range has been configured, say with
+     * {@link InRange}, so that it {@linkplain #canEnumerate() enumerates} its
+     * values. Subclasses call this when so configured.
+     */
+    protected void rangeConfigured() {
+        ranged = true;
+    }
+
     /**
      * @return a function converting a value of the base type into a
      * {@link BigInteger}
@@ -102,6 +158,22 @@ public abstract class IntegralGenerator<T extends Number>
      */
     protected abstract Function<BigInteger, T> narrow();
 
+    /**
+     * <p>For base types whose values all fit in a {@code long}, gives a
+     * function converting a {@code long} into the equivalent value in the
+     * base type, so that shrinking can work with {@code long}s instead of
+     * {@link BigInteger}s.</p>
+     *
+     * <p>If not overridden, this implementation returns {@code null},
+     * meaning that shrinking works with {@link BigInteger}s.</p>
+     *
+     * @return a function converting a {@code long} into the equivalent value
+     * in the base type, or {@code null}
+     */
+    protected LongFunction<T> narrowLong() {
+        return null;
+    }
+
     /**
      * @return a predicate checking whether its input is in the configured
      * range
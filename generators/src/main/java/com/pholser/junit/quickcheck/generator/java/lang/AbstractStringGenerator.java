@@ -25,19 +25,17 @@
 
 package com.pholser.junit.quickcheck.generator.java.lang;
 
-import static com.pholser.junit.quickcheck.internal.Lists.shrinksOfOneItem;
-import static com.pholser.junit.quickcheck.internal.Sequences.halving;
+import static com.pholser.junit.quickcheck.internal.Enumerations.sequencesOfSize;
+import static com.pholser.junit.quickcheck.internal.Lists.reductions;
+import static com.pholser.junit.quickcheck.internal.Lists.shrinksOfOneItemLazily;
 import static java.util.stream.Collectors.toList;
-import static java.util.stream.StreamSupport.stream;
 
 import com.pholser.junit.quickcheck.generator.GenerationStatus;
 import com.pholser.junit.quickcheck.generator.Generator;
-import com.pholser.junit.quickcheck.internal.Lists;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 import java.math.BigDecimal;
-import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * <p>Base class for generators of values of type {@link String}.</p>
@@ -55,9 +53,7 @@ public abstract class AbstractStringGenerator extends Generator<String> {
         GenerationStatus status) {
 
         int[] codePoints = new int[status.size()];
-
-        for (int i = 0; i < codePoints.length; ++i)
-            codePoints[i] = nextCodePoint(random);
+        nextCodePoints(random, codePoints);
 
         return new String(codePoints, 0, codePoints.length);
     }
@@ -70,22 +66,43 @@ public abstract class AbstractStringGenerator extends Generator<String> {
         SourceOfRandomness random,
         String larger) {
 
+        return doShrinkLazily(random, larger).collect(toList());
+    }
+
+    @Override public Stream<String> doShrinkLazily(
+        SourceOfRandomness random,
+        String larger) {
+
         List<Integer> codePoints =
             larger.codePoints().boxed().collect(toList());
-        List<String> shrinks = new ArrayList<>(removals(codePoints));
 
-        List<List<Integer>> oneItemShrinks =
-            shrinksOfOneItem(
+        Stream<String> oneItemShrinks =
+            shrinksOfOneItemLazily(
                 random,
                 codePoints,
-                new CodePointShrink(this::codePointInRange));
-        shrinks.addAll(
-            oneItemShrinks.stream()
+                new CodePointShrink(this::codePointInRange))
                 .map(this::convert)
-                .filter(this::codePointsInRange)
-                .collect(toList()));
+                .filter(this::codePointsInRange);
+
+        return Stream.concat(
+            reductions(codePoints).map(this::convert),
+            oneItemShrinks);
+    }
 
-        return shrinks;
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The size of a string is its length plus the sum of the
+     * {@linkplain #codePointsOfSize(int) sizes} of its code points, so that
+     * the shortest strings made of the first code points come first.</p>
+     */
+    @Override public Stream<String> enumerateOfSize(int size) {
+        return sequencesOfSize(
+            size,
+            0,
+            Integer.MAX_VALUE,
+            this::codePointsOfSize)
+            .map(this::convert);
     }
 
     @Override public BigDecimal magnitude(Object value) {
@@ -94,18 +111,41 @@ public abstract class AbstractStringGenerator extends Generator<String> {
 
     protected abstract int nextCodePoint(SourceOfRandomness random);
 
+    /**
+     * Fills the given array with code points for a generated string. By
+     * default, asks {@link #nextCodePoint(SourceOfRandomness)} for each one;
+     * subclasses that can draw them in bulk, say with
+     * {@link SourceOfRandomness#nextInts(int[], int, int)}, should override.
+     *
+     * @param random source of randomness
+     * @param codePoints array to fill with code points
+     */
+    protected void nextCodePoints(
+        SourceOfRandomness random,
+        int[] codePoints) {
+
+        for (int i = 0; i < codePoints.length; ++i)
+            codePoints[i] = nextCodePoint(random);
+    }
+
     protected abstract boolean codePointInRange(int codePoint);
 
-    private boolean codePointsInRange(String s) {
-        return s.codePoints().allMatch(this::codePointInRange);
+    /**
+     * Gives the code points of the given size that generated strings can be
+     * made of, so that strings can be
+     * {@linkplain #enumerateOfSize(int) enumerated}. This is called only if
+     * {@link #canEnumerate()} is {@code true}. If not overridden, gives no
+     * code points.
+     *
+     * @param size a non-negative size
+     * @return the code points of that size
+     */
+    protected Stream<Integer> codePointsOfSize(int size) {
+        return Stream.empty();
     }
 
-    private List<String> removals(List<Integer> codePoints) {
-        return stream(halving(codePoints.size()).spliterator(), false)
-            .map(i -> Lists.removeFrom(codePoints, i))
-            .flatMap(Collection::stream)
-            .map(this::convert)
-            .collect(toList());
+    private boolean codePointsInRange(String s) {
+        return s.codePoints().allMatch(this::codePointInRange);
     }
 
     private String convert(List<Integer> codePoints) {
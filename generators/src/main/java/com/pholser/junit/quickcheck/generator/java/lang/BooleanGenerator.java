@@ -31,6 +31,7 @@ import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 
+import com.pholser.junit.quickcheck.generator.Gen;
 import com.pholser.junit.quickcheck.generator.GenerationStatus;
 import com.pholser.junit.quickcheck.generator.Generator;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
@@ -40,7 +41,9 @@ import java.util.List;
 /**
  * Produces values of type {@code boolean} or {@link Boolean}.
  */
-public class BooleanGenerator extends Generator<Boolean> {
+public class BooleanGenerator extends Generator<Boolean>
+    implements Gen.OfBoolean {
+
     public BooleanGenerator() {
         super(asList(Boolean.class, boolean.class));
     }
@@ -49,6 +52,13 @@ public class BooleanGenerator extends Generator<Boolean> {
         SourceOfRandomness random,
         GenerationStatus status) {
 
+        return generateBoolean(random, status);
+    }
+
+    @Override public boolean generateBoolean(
+        SourceOfRandomness random,
+        GenerationStatus status) {
+
         return random.nextBoolean();
     }
 
@@ -62,4 +72,8 @@ public class BooleanGenerator extends Generator<Boolean> {
     @Override public BigDecimal magnitude(Object value) {
         return narrow(value) ? ONE : ZERO;
     }
+
+    @Override public double doubleMagnitude(Object value) {
+        return narrow(value) ? 1 : 0;
+    }
 }
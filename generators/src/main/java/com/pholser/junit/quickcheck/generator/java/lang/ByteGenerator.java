@@ -28,6 +28,7 @@ package com.pholser.junit.quickcheck.generator.java.lang;
 import static com.pholser.junit.quickcheck.internal.Reflection.defaultValueOf;
 import static java.util.Arrays.asList;
 
+import com.pholser.junit.quickcheck.generator.Gen;
 import com.pholser.junit.quickcheck.generator.GenerationStatus;
 import com.pholser.junit.quickcheck.generator.InRange;
 import com.pholser.junit.quickcheck.generator.IntegralGenerator;
@@ -36,12 +37,15 @@ import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.function.Function;
+import java.util.function.LongFunction;
 import java.util.function.Predicate;
 
 /**
  * Produces values of type {@code byte} or {@link Byte}.
  */
-public class ByteGenerator extends IntegralGenerator<Byte> {
+public class ByteGenerator extends IntegralGenerator<Byte>
+    implements Gen.OfByte {
+
     private byte min = (Byte) defaultValueOf(InRange.class, "minByte");
     private byte max = (Byte) defaultValueOf(InRange.class, "maxByte");
 
@@ -67,12 +71,20 @@ public class ByteGenerator extends IntegralGenerator<Byte> {
             range.max().isEmpty()
                 ? range.maxByte()
                 : Byte.parseByte(range.max());
+        rangeConfigured();
     }
 
     @Override public Byte generate(
         SourceOfRandomness random,
         GenerationStatus status) {
 
+        return generateByte(random, status);
+    }
+
+    @Override public byte generateByte(
+        SourceOfRandomness random,
+        GenerationStatus status) {
+
         return random.nextByte(min, max);
     }
 
@@ -80,6 +92,10 @@ public class ByteGenerator extends IntegralGenerator<Byte> {
         return BigInteger::byteValue;
     }
 
+    @Override protected LongFunction<Byte> narrowLong() {
+        return n -> (byte) n;
+    }
+
     @Override protected Predicate<Byte> inRange() {
         return Comparables.inRange(min, max);
     }
@@ -99,4 +115,8 @@ public class ByteGenerator extends IntegralGenerator<Byte> {
     @Override public BigDecimal magnitude(Object value) {
         return BigDecimal.valueOf(narrow(value));
     }
+
+    @Override public double doubleMagnitude(Object value) {
+        return narrow(value);
+    }
 }
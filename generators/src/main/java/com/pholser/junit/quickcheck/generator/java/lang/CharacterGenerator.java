@@ -29,6 +29,7 @@ import static com.pholser.junit.quickcheck.internal.Reflection.defaultValueOf;
 import static java.util.Arrays.asList;
 import static java.util.stream.Collectors.toList;
 
+import com.pholser.junit.quickcheck.generator.Gen;
 import com.pholser.junit.quickcheck.generator.GenerationStatus;
 import com.pholser.junit.quickcheck.generator.Generator;
 import com.pholser.junit.quickcheck.generator.InRange;
@@ -36,13 +37,17 @@ import com.pholser.junit.quickcheck.internal.Comparables;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Produces values of type {@code char} or {@link Character}.
  */
-public class CharacterGenerator extends Generator<Character> {
+public class CharacterGenerator extends Generator<Character>
+    implements Gen.OfChar {
+
     private char min = (Character) defaultValueOf(InRange.class, "minChar");
     private char max = (Character) defaultValueOf(InRange.class, "maxChar");
+    private boolean ranged;
 
     public CharacterGenerator() {
         super(asList(Character.class, char.class));
@@ -60,12 +65,20 @@ public class CharacterGenerator extends Generator<Character> {
     public void configure(InRange range) {
         min = range.min().isEmpty() ? range.minChar() : range.min().charAt(0);
         max = range.max().isEmpty() ? range.maxChar() : range.max().charAt(0);
+        ranged = true;
     }
 
     @Override public Character generate(
         SourceOfRandomness random,
         GenerationStatus status) {
 
+        return generateChar(random, status);
+    }
+
+    @Override public char generateChar(
+        SourceOfRandomness random,
+        GenerationStatus status) {
+
         return random.nextChar(min, max);
     }
 
@@ -81,10 +94,36 @@ public class CharacterGenerator extends Generator<Character> {
             .collect(toList());
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Only generators configured with {@link InRange} enumerate their
+     * values.</p>
+     */
+    @Override public boolean canEnumerate() {
+        return ranged;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The size of a character is its distance from the minimum of the
+     * configured range.</p>
+     */
+    @Override public Stream<Character> enumerateOfSize(int size) {
+        return min + size <= max
+            ? Stream.of((char) (min + size))
+            : Stream.empty();
+    }
+
     @Override public BigDecimal magnitude(Object value) {
         return BigDecimal.valueOf(narrow(value));
     }
 
+    @Override public double doubleMagnitude(Object value) {
+        return narrow(value);
+    }
+
     private boolean inRange(Character value) {
         return Comparables.inRange(min, max).test(value);
     }
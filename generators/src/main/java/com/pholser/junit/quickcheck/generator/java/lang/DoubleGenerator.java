@@ -29,11 +29,13 @@ import static com.pholser.junit.quickcheck.internal.Reflection.defaultValueOf;
 import static java.util.Arrays.asList;
 
 import com.pholser.junit.quickcheck.generator.DecimalGenerator;
+import com.pholser.junit.quickcheck.generator.Gen;
 import com.pholser.junit.quickcheck.generator.GenerationStatus;
 import com.pholser.junit.quickcheck.generator.InRange;
 import com.pholser.junit.quickcheck.internal.Comparables;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 import java.math.BigDecimal;
+import java.util.function.DoubleFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -41,7 +43,9 @@ import java.util.function.Predicate;
  * Produces values for property parameters of type {@code double} or
  * {@link Double}.
  */
-public class DoubleGenerator extends DecimalGenerator<Double> {
+public class DoubleGenerator extends DecimalGenerator<Double>
+    implements Gen.OfDouble {
+
     private double min = (Double) defaultValueOf(InRange.class, "minDouble");
     private double max = (Double) defaultValueOf(InRange.class, "maxDouble");
 
@@ -74,6 +78,13 @@ public class DoubleGenerator extends DecimalGenerator<Double> {
         SourceOfRandomness random,
         GenerationStatus status) {
 
+        return generateDouble(random, status);
+    }
+
+    @Override public double generateDouble(
+        SourceOfRandomness random,
+        GenerationStatus status) {
+
         return random.nextDouble(min, max);
     }
 
@@ -85,6 +96,10 @@ public class DoubleGenerator extends DecimalGenerator<Double> {
         return BigDecimal::doubleValue;
     }
 
+    @Override protected DoubleFunction<Double> narrowDouble() {
+        return d -> d;
+    }
+
     @Override protected Predicate<Double> inRange() {
         return Comparables.inRange(min, max);
     }
@@ -104,4 +119,8 @@ public class DoubleGenerator extends DecimalGenerator<Double> {
     @Override public BigDecimal magnitude(Object value) {
         return BigDecimal.valueOf(narrow(value));
     }
+
+    @Override public double doubleMagnitude(Object value) {
+        return narrow(value);
+    }
 }
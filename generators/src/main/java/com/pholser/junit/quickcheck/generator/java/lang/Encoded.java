@@ -37,6 +37,7 @@ import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
 import java.nio.charset.Charset;
+import java.util.stream.Stream;
 
 /**
  * <p>Produces {@link String}s whose code points correspond to code points in
@@ -45,6 +46,7 @@ import java.nio.charset.Charset;
  */
 public class Encoded extends AbstractStringGenerator {
     private CodePoints charsetPoints;
+    private boolean charsetConfigured;
 
     public Encoded() {
         initialize(Charset.defaultCharset());
@@ -58,6 +60,7 @@ public class Encoded extends AbstractStringGenerator {
      */
     public void configure(InCharset charset) {
         initialize(Charset.forName(charset.value()));
+        charsetConfigured = true;
     }
 
     private void initialize(Charset charset) {
@@ -68,10 +71,40 @@ public class Encoded extends AbstractStringGenerator {
         return charsetPoints.at(random.nextInt(0, charsetPoints.size() - 1));
     }
 
+    @Override protected void nextCodePoints(
+        SourceOfRandomness random,
+        int[] codePoints) {
+
+        random.nextInts(codePoints, 0, charsetPoints.size() - 1);
+        for (int i = 0; i < codePoints.length; ++i)
+            codePoints[i] = charsetPoints.at(codePoints[i]);
+    }
+
     @Override protected boolean codePointInRange(int codePoint) {
         return charsetPoints.contains(codePoint);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Only generators configured with {@link InCharset} enumerate their
+     * values.</p>
+     */
+    @Override public boolean canEnumerate() {
+        return charsetConfigured;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The size of a code point is its position in the charset.</p>
+     */
+    @Override protected Stream<Integer> codePointsOfSize(int size) {
+        return size < charsetPoints.size()
+            ? Stream.of(charsetPoints.at(size))
+            : Stream.empty();
+    }
+
     /**
      * Names a {@link java.nio.charset.Charset}.
      */
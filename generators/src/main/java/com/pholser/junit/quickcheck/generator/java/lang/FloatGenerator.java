@@ -29,18 +29,22 @@ import static com.pholser.junit.quickcheck.internal.Reflection.defaultValueOf;
 import static java.util.Arrays.asList;
 
 import com.pholser.junit.quickcheck.generator.DecimalGenerator;
+import com.pholser.junit.quickcheck.generator.Gen;
 import com.pholser.junit.quickcheck.generator.GenerationStatus;
 import com.pholser.junit.quickcheck.generator.InRange;
 import com.pholser.junit.quickcheck.internal.Comparables;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 import java.math.BigDecimal;
+import java.util.function.DoubleFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
 /**
  * Produces values of type {@code float} or {@link Float}.
  */
-public class FloatGenerator extends DecimalGenerator<Float> {
+public class FloatGenerator extends DecimalGenerator<Float>
+    implements Gen.OfFloat {
+
     private float min = (Float) defaultValueOf(InRange.class, "minFloat");
     private float max = (Float) defaultValueOf(InRange.class, "maxFloat");
 
@@ -72,6 +76,13 @@ public class FloatGenerator extends DecimalGenerator<Float> {
         SourceOfRandomness random,
         GenerationStatus status) {
 
+        return generateFloat(random, status);
+    }
+
+    @Override public float generateFloat(
+        SourceOfRandomness random,
+        GenerationStatus status) {
+
         return random.nextFloat(min, max);
     }
 
@@ -83,6 +94,10 @@ public class FloatGenerator extends DecimalGenerator<Float> {
         return BigDecimal::floatValue;
     }
 
+    @Override protected DoubleFunction<Float> narrowDouble() {
+        return d -> (float) d;
+    }
+
     @Override protected Predicate<Float> inRange() {
         return Comparables.inRange(min, max);
     }
@@ -102,4 +117,8 @@ public class FloatGenerator extends DecimalGenerator<Float> {
     @Override public BigDecimal magnitude(Object value) {
         return BigDecimal.valueOf(narrow(value));
     }
+
+    @Override public double doubleMagnitude(Object value) {
+        return narrow(value);
+    }
 }
@@ -28,6 +28,7 @@ package com.pholser.junit.quickcheck.generator.java.lang;
 import static com.pholser.junit.quickcheck.internal.Reflection.defaultValueOf;
 import static java.util.Arrays.asList;
 
+import com.pholser.junit.quickcheck.generator.Gen;
 import com.pholser.junit.quickcheck.generator.GenerationStatus;
 import com.pholser.junit.quickcheck.generator.InRange;
 import com.pholser.junit.quickcheck.generator.IntegralGenerator;
@@ -36,12 +37,15 @@ import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.function.Function;
+import java.util.function.LongFunction;
 import java.util.function.Predicate;
 
 /**
  * Produces values of type {@code int} or {@link Integer}.
  */
-public class IntegerGenerator extends IntegralGenerator<Integer> {
+public class IntegerGenerator extends IntegralGenerator<Integer>
+    implements Gen.OfInt {
+
     private int min = (Integer) defaultValueOf(InRange.class, "minInt");
     private int max = (Integer) defaultValueOf(InRange.class, "maxInt");
 
@@ -67,12 +71,20 @@ public class IntegerGenerator extends IntegralGenerator<Integer> {
             range.max().isEmpty()
                 ? range.maxInt()
                 : Integer.parseInt(range.max());
+        rangeConfigured();
     }
 
     @Override public Integer generate(
         SourceOfRandomness random,
         GenerationStatus status) {
 
+        return generateInt(random, status);
+    }
+
+    @Override public int generateInt(
+        SourceOfRandomness random,
+        GenerationStatus status) {
+
         return random.nextInt(min, max);
     }
 
@@ -80,6 +92,10 @@ public class IntegerGenerator extends IntegralGenerator<Integer> {
         return BigInteger::intValue;
     }
 
+    @Override protected LongFunction<Integer> narrowLong() {
+        return n -> (int) n;
+    }
+
     @Override protected Predicate<Integer> inRange() {
         return Comparables.inRange(min, max);
     }
@@ -99,4 +115,8 @@ public class IntegerGenerator extends IntegralGenerator<Integer> {
     @Override public BigDecimal magnitude(Object value) {
         return BigDecimal.valueOf(narrow(value));
     }
+
+    @Override public double doubleMagnitude(Object value) {
+        return narrow(value);
+    }
 }
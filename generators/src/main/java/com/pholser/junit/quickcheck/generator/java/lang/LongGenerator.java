@@ -28,6 +28,7 @@ package com.pholser.junit.quickcheck.generator.java.lang;
 import static com.pholser.junit.quickcheck.internal.Reflection.defaultValueOf;
 import static java.util.Arrays.asList;
 
+import com.pholser.junit.quickcheck.generator.Gen;
 import com.pholser.junit.quickcheck.generator.GenerationStatus;
 import com.pholser.junit.quickcheck.generator.InRange;
 import com.pholser.junit.quickcheck.generator.IntegralGenerator;
@@ -36,12 +37,15 @@ import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.function.Function;
+import java.util.function.LongFunction;
 import java.util.function.Predicate;
 
 /**
  * Produces values of type {@code long} or {@link Long}.
  */
-public class LongGenerator extends IntegralGenerator<Long> {
+public class LongGenerator extends IntegralGenerator<Long>
+    implements Gen.OfLong {
+
     private long min = (Long) defaultValueOf(InRange.class, "minLong");
     private long max = (Long) defaultValueOf(InRange.class, "maxLong");
 
@@ -67,12 +71,20 @@ public class LongGenerator extends IntegralGenerator<Long> {
             range.max().isEmpty()
                 ? range.maxLong()
                 : Long.parseLong(range.max());
+        rangeConfigured();
     }
 
     @Override public Long generate(
         SourceOfRandomness random,
         GenerationStatus status) {
 
+        return generateLong(random, status);
+    }
+
+    @Override public long generateLong(
+        SourceOfRandomness random,
+        GenerationStatus status) {
+
         return random.nextLong(min, max);
     }
 
@@ -80,6 +92,10 @@ public class LongGenerator extends IntegralGenerator<Long> {
         return BigInteger::longValue;
     }
 
+    @Override protected LongFunction<Long> narrowLong() {
+        return n -> n;
+    }
+
     @Override protected Predicate<Long> inRange() {
         return Comparables.inRange(min, max);
     }
@@ -99,4 +115,8 @@ public class LongGenerator extends IntegralGenerator<Long> {
     @Override public BigDecimal magnitude(Object value) {
         return BigDecimal.valueOf(narrow(value));
     }
+
+    @Override public double doubleMagnitude(Object value) {
+        return narrow(value);
+    }
 }
@@ -28,6 +28,7 @@ package com.pholser.junit.quickcheck.generator.java.lang;
 import static com.pholser.junit.quickcheck.internal.Reflection.defaultValueOf;
 import static java.util.Arrays.asList;
 
+import com.pholser.junit.quickcheck.generator.Gen;
 import com.pholser.junit.quickcheck.generator.GenerationStatus;
 import com.pholser.junit.quickcheck.generator.InRange;
 import com.pholser.junit.quickcheck.generator.IntegralGenerator;
@@ -36,12 +37,15 @@ import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.function.Function;
+import java.util.function.LongFunction;
 import java.util.function.Predicate;
 
 /**
  * Produces values of type {@code short} or {@link Short}.
  */
-public class ShortGenerator extends IntegralGenerator<Short> {
+public class ShortGenerator extends IntegralGenerator<Short>
+    implements Gen.OfShort {
+
     private short min = (Short) defaultValueOf(InRange.class, "minShort");
     private short max = (Short) defaultValueOf(InRange.class, "maxShort");
 
@@ -67,12 +71,20 @@ public class ShortGenerator extends IntegralGenerator<Short> {
             range.max().isEmpty()
                 ? range.maxShort()
                 : Short.parseShort(range.max());
+        rangeConfigured();
     }
 
     @Override public Short generate(
         SourceOfRandomness random,
         GenerationStatus status) {
 
+        return generateShort(random, status);
+    }
+
+    @Override public short generateShort(
+        SourceOfRandomness random,
+        GenerationStatus status) {
+
         return random.nextShort(min, max);
     }
 
@@ -80,6 +92,10 @@ public class ShortGenerator extends IntegralGenerator<Short> {
         return BigInteger::shortValue;
     }
 
+    @Override protected LongFunction<Short> narrowLong() {
+        return n -> (short) n;
+    }
+
     @Override protected Predicate<Short> inRange() {
         return Comparables.inRange(min, max);
     }
@@ -99,4 +115,8 @@ public class ShortGenerator extends IntegralGenerator<Short> {
     @Override public BigDecimal magnitude(Object value) {
         return BigDecimal.valueOf(narrow(value));
     }
+
+    @Override public double doubleMagnitude(Object value) {
+        return narrow(value);
+    }
 }
@@ -76,6 +76,7 @@ public class BigIntegerGenerator extends IntegralGenerator<BigInteger> {
             max = new BigInteger(range.max());
         if (min != null && max != null)
             checkRange(Ranges.Type.INTEGRAL, min, max);
+        rangeConfigured();
     }
 
     @Override public BigInteger generate(
@@ -97,6 +98,10 @@ public class BigIntegerGenerator extends IntegralGenerator<BigInteger> {
         return Ranges.choose(random, minToUse, maxToUse);
     }
 
+    @Override protected Function<BigInteger, BigInteger> widen() {
+        return identity();
+    }
+
     @Override protected Function<BigInteger, BigInteger> narrow() {
         return identity();
     }
@@ -25,16 +25,16 @@
 
 package com.pholser.junit.quickcheck.generator.java.util;
 
-import static java.util.Collections.emptyList;
+import static com.pholser.junit.quickcheck.internal.DeltaDebugging.retainedRanges;
 import static java.util.stream.Collectors.toList;
 
 import com.pholser.junit.quickcheck.generator.GenerationStatus;
 import com.pholser.junit.quickcheck.generator.Generator;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 import java.math.BigDecimal;
-import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Produces values of type {@link BitSet}.
@@ -50,36 +50,35 @@ public class BitSetGenerator extends Generator<BitSet> {
 
         int size = status.size();
 
-        BitSet bits = new BitSet(size);
-        for (int i = 0; i < size; ++i) {
-            bits.set(i, random.nextBoolean());
-        }
+        long[] words = new long[(size + Long.SIZE - 1) / Long.SIZE];
+        random.nextBooleans(words);
+        if (size % Long.SIZE != 0)
+            words[words.length - 1] &= (1L << size) - 1;
 
-        return bits;
+        return BitSet.valueOf(words);
     }
 
     @Override public List<BitSet> doShrink(
         SourceOfRandomness random,
         BitSet larger) {
 
-        if (larger.length() == 0)
-            return emptyList();
-
-        List<BitSet> shrinks = new ArrayList<>();
-        shrinks.addAll(
-            larger.stream()
-                .mapToObj(i -> larger.get(0, i))
-                .collect(toList()));
-        shrinks.addAll(
-            larger.stream()
-                .mapToObj(i -> {
-                    BitSet smaller = (BitSet) larger.clone();
-                    smaller.clear(i);
-                    return smaller;
-                })
-                .collect(toList()));
-
-        return shrinks;
+        return doShrinkLazily(random, larger).collect(toList());
+    }
+
+    @Override public Stream<BitSet> doShrinkLazily(
+        SourceOfRandomness random,
+        BitSet larger) {
+
+        int[] setBits = larger.stream().toArray();
+
+        return retainedRanges(setBits.length).map(r -> {
+            BitSet smaller = new BitSet();
+            for (int i = 0; i < r.length; i += 2) {
+                for (int j = r[i]; j < r[i + 1]; ++j)
+                    smaller.set(setBits[j]);
+            }
+            return smaller;
+        });
     }
 
     @Override public BigDecimal magnitude(Object value) {
@@ -25,16 +25,15 @@
 
 package com.pholser.junit.quickcheck.generator.java.util;
 
-import static com.pholser.junit.quickcheck.internal.Lists.removeFrom;
-import static com.pholser.junit.quickcheck.internal.Lists.shrinksOfOneItem;
+import static com.pholser.junit.quickcheck.internal.Lists.reductions;
+import static com.pholser.junit.quickcheck.internal.Lists.shrinksOfOneItemLazily;
 import static com.pholser.junit.quickcheck.internal.Ranges.Type.INTEGRAL;
 import static com.pholser.junit.quickcheck.internal.Ranges.checkRange;
 import static com.pholser.junit.quickcheck.internal.Reflection.findConstructor;
 import static com.pholser.junit.quickcheck.internal.Reflection.instantiate;
-import static com.pholser.junit.quickcheck.internal.Sequences.halving;
 import static java.math.BigDecimal.ZERO;
+import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.toList;
-import static java.util.stream.StreamSupport.stream;
 
 import com.pholser.junit.quickcheck.generator.ComponentizedGenerator;
 import com.pholser.junit.quickcheck.generator.Distinct;
@@ -42,12 +41,14 @@ import com.pholser.junit.quickcheck.generator.GenerationStatus;
 import com.pholser.junit.quickcheck.generator.Generator;
 import com.pholser.junit.quickcheck.generator.Shrink;
 import com.pholser.junit.quickcheck.generator.Size;
+import com.pholser.junit.quickcheck.internal.Enumerations;
 import com.pholser.junit.quickcheck.internal.Lists;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Stream;
 
 /**
@@ -121,28 +122,64 @@ public abstract class CollectionGenerator<T extends Collection>
     }
 
     @Override public List<T> doShrink(SourceOfRandomness random, T larger) {
+        return doShrinkLazily(random, larger).collect(toList());
+    }
+
+    @Override public Stream<T> doShrinkLazily(
+        SourceOfRandomness random,
+        T larger) {
+
         @SuppressWarnings("unchecked")
         List<Object> asList = new ArrayList<>(larger);
 
-        List<T> shrinks = new ArrayList<>(removals(asList));
-
         @SuppressWarnings("unchecked")
         Shrink<Object> generator =
             (Shrink<Object>) componentGenerators().get(0);
 
         Stream<List<Object>> oneItemShrinks =
-            shrinksOfOneItem(random, asList, generator)
-                .stream();
+            shrinksOfOneItemLazily(random, asList, generator);
         if (distinct)
             oneItemShrinks = oneItemShrinks.filter(Lists::isDistinct);
 
-        shrinks.addAll(
-            oneItemShrinks
-                .map(this::convert)
-                .filter(this::inSizeRange)
-                .collect(toList()));
+        return Stream.concat(reductions(asList), oneItemShrinks)
+            .map(this::convert)
+            .filter(this::inSizeRange);
+    }
+
+    @Override public boolean canEnumerate() {
+        return componentGenerators().get(0).canEnumerate();
+    }
 
-        return shrinks;
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The size of a collection is the number of its elements plus the sum
+     * of their sizes.</p>
+     */
+    @Override public Stream<T> enumerateOfSize(int size) {
+        Generator<?> generator = componentGenerators().get(0);
+        int minLength = sizeRange == null ? 0 : sizeRange.min();
+        int maxLength = sizeRange == null ? Integer.MAX_VALUE : sizeRange.max();
+
+        // Sets would merge sequences that repeat elements
+        boolean isSet = empty() instanceof Set;
+        Stream<List<Object>> sequences =
+            distinct || isSet
+                ? Enumerations.<Object> distinctSequencesOfSize(
+                    size,
+                    minLength,
+                    maxLength,
+                    generator::enumerateOfSize,
+                    identity())
+                : Enumerations.<Object> sequencesOfSize(
+                    size,
+                    minLength,
+                    maxLength,
+                    generator::enumerateOfSize);
+        Stream<T> collections = sequences.map(this::convert);
+
+        // ...and sequences that differ only in order
+        return isSet ? collections.distinct() : collections;
     }
 
     @Override public int numberOfNeededComponents() {
@@ -178,15 +215,6 @@ public abstract class CollectionGenerator<T extends Collection>
             : status.size();
     }
 
-    private List<T> removals(List<?> items) {
-        return stream(halving(items.size()).spliterator(), false)
-            .map(i -> removeFrom(items, i))
-            .flatMap(Collection::stream)
-            .map(this::convert)
-            .filter(this::inSizeRange)
-            .collect(toList());
-    }
-
     @SuppressWarnings("unchecked")
     private T convert(List<?> items) {
         T converted = empty();
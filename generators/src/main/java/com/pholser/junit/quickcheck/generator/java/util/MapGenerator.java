@@ -25,15 +25,13 @@
 
 package com.pholser.junit.quickcheck.generator.java.util;
 
-import static com.pholser.junit.quickcheck.internal.Lists.removeFrom;
-import static com.pholser.junit.quickcheck.internal.Lists.shrinksOfOneItem;
+import static com.pholser.junit.quickcheck.internal.Lists.reductions;
+import static com.pholser.junit.quickcheck.internal.Lists.shrinksOfOneItemLazily;
 import static com.pholser.junit.quickcheck.internal.Ranges.Type.INTEGRAL;
 import static com.pholser.junit.quickcheck.internal.Ranges.checkRange;
 import static com.pholser.junit.quickcheck.internal.Reflection.findConstructor;
 import static com.pholser.junit.quickcheck.internal.Reflection.instantiate;
-import static com.pholser.junit.quickcheck.internal.Sequences.halving;
 import static java.util.stream.Collectors.toList;
-import static java.util.stream.StreamSupport.stream;
 
 import com.pholser.junit.quickcheck.generator.ComponentizedGenerator;
 import com.pholser.junit.quickcheck.generator.Distinct;
@@ -41,12 +39,12 @@ import com.pholser.junit.quickcheck.generator.GenerationStatus;
 import com.pholser.junit.quickcheck.generator.Generator;
 import com.pholser.junit.quickcheck.generator.Shrink;
 import com.pholser.junit.quickcheck.generator.Size;
+import com.pholser.junit.quickcheck.internal.Enumerations;
 import com.pholser.junit.quickcheck.internal.Lists;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 import java.math.BigDecimal;
 import java.util.AbstractMap.SimpleEntry;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -127,29 +125,61 @@ public abstract class MapGenerator<T extends Map>
     }
 
     @Override public List<T> doShrink(SourceOfRandomness random, T larger) {
+        return doShrinkLazily(random, larger).collect(toList());
+    }
+
+    @Override public Stream<T> doShrinkLazily(
+        SourceOfRandomness random,
+        T larger) {
+
         @SuppressWarnings("unchecked")
         List<Entry<?, ?>> entries = new ArrayList<>(larger.entrySet());
 
-        List<T> shrinks = new ArrayList<>(removals(entries));
-
         @SuppressWarnings("unchecked")
         Shrink<Entry<?, ?>> entryShrink = entryShrinker(
             (Shrink<Object>) componentGenerators().get(0),
             (Shrink<Object>) componentGenerators().get(1));
 
         Stream<List<Entry<?, ?>>> oneEntryShrinks =
-            shrinksOfOneItem(random, entries, entryShrink)
-                .stream();
+            shrinksOfOneItemLazily(random, entries, entryShrink);
         if (distinct)
             oneEntryShrinks = oneEntryShrinks.filter(MapGenerator::isKeyDistinct);
 
-        shrinks.addAll(
-            oneEntryShrinks
-                .map(this::convert)
-                .filter(this::inSizeRange)
-                .collect(toList()));
+        return Stream.concat(reductions(entries), oneEntryShrinks)
+            .map(this::convert)
+            .filter(this::inSizeRange);
+    }
 
-        return shrinks;
+    @Override public boolean canEnumerate() {
+        return componentGenerators().get(0).canEnumerate()
+            && componentGenerators().get(1).canEnumerate();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The size of a map is the number of its entries plus the sum of the
+     * sizes of their keys and values.</p>
+     */
+    @Override public Stream<T> enumerateOfSize(int size) {
+        Generator<?> keyGenerator = componentGenerators().get(0);
+        Generator<?> valueGenerator = componentGenerators().get(1);
+        int minLength = sizeRange == null ? 0 : sizeRange.min();
+        int maxLength = sizeRange == null ? Integer.MAX_VALUE : sizeRange.max();
+
+        // Maps merge entries with equal keys, and entries in different orders
+        return Enumerations.<Entry<?, ?>> distinctSequencesOfSize(
+            size,
+            minLength,
+            maxLength,
+            n -> Enumerations.pairsOfSize(
+                n,
+                keyGenerator::enumerateOfSize,
+                valueGenerator::enumerateOfSize)
+                .filter(e -> okToAdd(e.getKey(), e.getValue())),
+            Entry::getKey)
+            .map(this::convert)
+            .distinct();
     }
 
     @Override public int numberOfNeededComponents() {
@@ -194,15 +224,6 @@ public abstract class MapGenerator<T extends Map>
             : status.size();
     }
 
-    private List<T> removals(List<Entry<?, ?>> items) {
-        return stream(halving(items.size()).spliterator(), false)
-            .map(i -> removeFrom(items, i))
-            .flatMap(Collection::stream)
-            .map(this::convert)
-            .filter(this::inSizeRange)
-            .collect(toList());
-    }
-
     @SuppressWarnings("unchecked")
     private T convert(List<?> entries) {
         T converted = empty();
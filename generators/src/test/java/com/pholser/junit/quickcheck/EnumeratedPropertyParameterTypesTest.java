@@ -0,0 +1,231 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2020 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck;
+
+import static com.pholser.junit.quickcheck.Mode.EXHAUSTIVE;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.experimental.results.PrintableResult.testResult;
+import static org.junit.experimental.results.ResultMatchers.isSuccessful;
+
+import com.pholser.junit.quickcheck.generator.InRange;
+import com.pholser.junit.quickcheck.generator.java.lang.Encoded;
+import com.pholser.junit.quickcheck.generator.java.lang.Encoded.InCharset;
+import com.pholser.junit.quickcheck.runner.JUnitQuickcheck;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+public class EnumeratedPropertyParameterTypesTest {
+    @Test public void rangedIntegersSmallestFirst() {
+        assertThat(testResult(RangedIntegers.class), isSuccessful());
+        assertEquals(asList(0, 1, -1, 2, -2, 3), RangedIntegers.values);
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class RangedIntegers {
+        static final List<Integer> values = new ArrayList<>();
+
+        @Property(mode = EXHAUSTIVE) public void shouldHold(
+            @InRange(minInt = -2, maxInt = 3) int i) {
+
+            values.add(i);
+        }
+    }
+
+    @Test public void halfRangedLongsUpToTrials() {
+        assertThat(testResult(HalfRangedLongs.class), isSuccessful());
+        assertEquals(asList(0L, 1L, -1L, 2L, -2L), HalfRangedLongs.values);
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class HalfRangedLongs {
+        static final List<Long> values = new ArrayList<>();
+
+        @Property(mode = EXHAUSTIVE, trials = 5) public void shouldHold(
+            @InRange(min = "-5") Long i) {
+
+            values.add(i);
+        }
+    }
+
+    @Test public void unrangedLongsSampledAtRandom() {
+        assertThat(testResult(UnrangedLongs.class), isSuccessful());
+        assertEquals(5, UnrangedLongs.values.size());
+        assertNotEquals(asList(0L, 1L, -1L, 2L, -2L), UnrangedLongs.values);
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class UnrangedLongs {
+        static final List<Long> values = new ArrayList<>();
+
+        @Property(mode = EXHAUSTIVE, trials = 5) public void shouldHold(
+            Long i) {
+
+            values.add(i);
+        }
+    }
+
+    @Test public void rangedCharacters() {
+        assertThat(testResult(RangedCharacters.class), isSuccessful());
+        assertEquals(asList('a', 'b', 'c'), RangedCharacters.values);
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class RangedCharacters {
+        static final List<Character> values = new ArrayList<>();
+
+        @Property(mode = EXHAUSTIVE) public void shouldHold(
+            @InRange(minChar = 'a', maxChar = 'c') char ch) {
+
+            values.add(ch);
+        }
+    }
+
+    @Test public void stringsInCharset() {
+        assertThat(testResult(StringsInCharset.class), isSuccessful());
+        assertEquals(
+            asList("", "\u0000", "\u0000\u0000", "\u0001"),
+            StringsInCharset.values);
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class StringsInCharset {
+        static final List<String> values = new ArrayList<>();
+
+        @Property(mode = EXHAUSTIVE, trials = 4) public void shouldHold(
+            @From(Encoded.class) @InCharset("US-ASCII") String s) {
+
+            values.add(s);
+        }
+    }
+
+    @Test public void unannotatedStringsSampledAtRandom() {
+        assertThat(testResult(Strings.class), isSuccessful());
+        assertEquals(4, Strings.values.size());
+        assertNotEquals(
+            asList("", "\u0000", "\u0000\u0000", "\u0001"),
+            Strings.values);
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class Strings {
+        static final List<String> values = new ArrayList<>();
+
+        @Property(mode = EXHAUSTIVE, trials = 4) public void shouldHold(
+            String s) {
+
+            values.add(s);
+        }
+    }
+
+    @Test public void listsOfRangedIntegers() {
+        assertThat(testResult(ListsOfRangedIntegers.class), isSuccessful());
+        assertEquals(
+            asList(
+                emptyList(),
+                singletonList(0),
+                asList(0, 0),
+                singletonList(1),
+                asList(0, 0, 0),
+                asList(0, 1)),
+            ListsOfRangedIntegers.values);
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class ListsOfRangedIntegers {
+        static final List<List<Integer>> values = new ArrayList<>();
+
+        @Property(mode = EXHAUSTIVE, trials = 6) public void shouldHold(
+            List<@InRange(minInt = 0, maxInt = 1) Integer> items) {
+
+            values.add(items);
+        }
+    }
+
+    @Test public void everySetOfRangedIntegers() {
+        assertThat(testResult(SetsOfRangedIntegers.class), isSuccessful());
+        assertEquals(
+            asList(
+                emptySet(),
+                singleton(0),
+                singleton(1),
+                new HashSet<>(asList(0, 1))),
+            SetsOfRangedIntegers.values);
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class SetsOfRangedIntegers {
+        static final List<Set<Integer>> values = new ArrayList<>();
+
+        @Property(mode = EXHAUSTIVE) public void shouldHold(
+            Set<@InRange(minInt = 0, maxInt = 1) Integer> items) {
+
+            values.add(items);
+        }
+    }
+
+    @Test public void everyMapOfRangedIntegers() {
+        Map<Integer, Character> both = new HashMap<>();
+        both.put(0, 'a');
+        both.put(1, 'a');
+
+        assertThat(testResult(MapsOfRangedIntegers.class), isSuccessful());
+        assertEquals(
+            asList(
+                emptyMap(),
+                singletonMap(0, 'a'),
+                singletonMap(1, 'a'),
+                both),
+            MapsOfRangedIntegers.values);
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class MapsOfRangedIntegers {
+        static final List<Map<Integer, Character>> values = new ArrayList<>();
+
+        @Property(mode = EXHAUSTIVE) public void shouldHold(
+            Map<
+                @InRange(minInt = 0, maxInt = 1) Integer,
+                @InRange(minChar = 'a', maxChar = 'a') Character> items) {
+
+            values.add(items);
+        }
+    }
+}
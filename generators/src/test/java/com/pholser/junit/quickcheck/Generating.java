@@ -26,8 +26,11 @@
 package com.pholser.junit.quickcheck;
 
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+import java.util.Iterator;
 import org.mockito.verification.VerificationMode;
 
+import static java.util.Arrays.asList;
+
 import static com.pholser.junit.quickcheck.generator.RangeAttributes.*;
 import static org.mockito.Mockito.*;
 
@@ -47,6 +50,26 @@ public final class Generating {
         verify(random, mode).nextBoolean();
     }
 
+    public static void booleansInBulk(
+        SourceOfRandomness random,
+        Long... words) {
+
+        Iterator<Long> next = asList(words).iterator();
+        doAnswer(invocation -> {
+            long[] into = (long[]) invocation.getArguments()[0];
+            for (int i = 0; i < into.length; ++i)
+                into[i] = next.next();
+            return null;
+        }).when(random).nextBooleans(any(long[].class));
+    }
+
+    public static void verifyBooleansInBulk(
+        SourceOfRandomness random,
+        VerificationMode mode) {
+
+        verify(random, mode).nextBooleans(any(long[].class));
+    }
+
     public static byte bytes(SourceOfRandomness random) {
         return random.nextByte(minByte(), maxByte());
     }
@@ -80,6 +103,20 @@ public final class Generating {
         verify(random, mode).nextInt(0, 0xD7FF);
     }
 
+    public static void charsForStringInBulk(
+        SourceOfRandomness random,
+        Integer... codePoints) {
+
+        intsInBulk(random, 0, 0xD7FF, codePoints);
+    }
+
+    public static void verifyCharsForStringInBulk(
+        SourceOfRandomness random,
+        VerificationMode mode) {
+
+        verifyIntsInBulk(random, mode, 0, 0xD7FF);
+    }
+
     public static double doubles(SourceOfRandomness random) {
         return random.nextDouble(minDouble(), maxDouble());
     }
@@ -126,6 +163,30 @@ public final class Generating {
         verify(random, mode).nextInt(min, max);
     }
 
+    public static void intsInBulk(
+        SourceOfRandomness random,
+        int min,
+        int max,
+        Integer... values) {
+
+        Iterator<Integer> next = asList(values).iterator();
+        doAnswer(invocation -> {
+            int[] into = (int[]) invocation.getArguments()[0];
+            for (int i = 0; i < into.length; ++i)
+                into[i] = next.next();
+            return null;
+        }).when(random).nextInts(any(int[].class), eq(min), eq(max));
+    }
+
+    public static void verifyIntsInBulk(
+        SourceOfRandomness random,
+        VerificationMode mode,
+        int min,
+        int max) {
+
+        verify(random, mode).nextInts(any(int[].class), eq(min), eq(max));
+    }
+
     public static int ints(SourceOfRandomness random, int n) {
         return random.nextInt(n);
     }
@@ -25,7 +25,8 @@
 
 package com.pholser.junit.quickcheck.generator.java.lang;
 
-import static com.pholser.junit.quickcheck.Generating.verifyInts;
+import static com.pholser.junit.quickcheck.Generating.intsInBulk;
+import static com.pholser.junit.quickcheck.Generating.verifyIntsInBulk;
 import static com.pholser.junit.quickcheck.generator.java.lang.Encoded.InCharset;
 import static java.util.Arrays.asList;
 import static org.mockito.Mockito.times;
@@ -33,7 +34,6 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.pholser.junit.quickcheck.From;
-import com.pholser.junit.quickcheck.Generating;
 import com.pholser.junit.quickcheck.generator.BasicGeneratorPropertyParameterTest;
 import java.util.List;
 
@@ -45,9 +45,11 @@ public class EncodedStringPropertyParameterTest
     public static final String TYPE_BEARER = null;
 
     @Override protected void primeSourceOfRandomness() {
-        when(Generating.ints(randomForParameterGenerator, 0, 127))
-            .thenReturn(0x61).thenReturn(0x62).thenReturn(0x63)
-            .thenReturn(0x64).thenReturn(0x65).thenReturn(0x66);
+        intsInBulk(
+            randomForParameterGenerator,
+            0,
+            127,
+            0x61, 0x62, 0x63, 0x64, 0x65, 0x66);
         when(distro.sampleWithMean(1, randomForParameterGenerator))
             .thenReturn(0);
         when(distro.sampleWithMean(2, randomForParameterGenerator))
@@ -67,7 +69,7 @@ public class EncodedStringPropertyParameterTest
     }
 
     @Override public void verifyInteractionWithRandomness() {
-        verifyInts(randomForParameterGenerator, times(6), 0, 127);
+        verifyIntsInBulk(randomForParameterGenerator, times(4), 0, 127);
         verify(distro).sampleWithMean(1, randomForParameterGenerator);
         verify(distro).sampleWithMean(2, randomForParameterGenerator);
         verify(distro).sampleWithMean(3, randomForParameterGenerator);
@@ -25,14 +25,14 @@
 
 package com.pholser.junit.quickcheck.generator.java.lang;
 
-import static com.pholser.junit.quickcheck.Generating.verifyCharsForString;
+import static com.pholser.junit.quickcheck.Generating.charsForStringInBulk;
+import static com.pholser.junit.quickcheck.Generating.verifyCharsForStringInBulk;
 import static java.util.Arrays.asList;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.pholser.junit.quickcheck.From;
-import com.pholser.junit.quickcheck.Generating;
 import com.pholser.junit.quickcheck.generator.BasicGeneratorPropertyParameterTest;
 import java.util.List;
 
@@ -41,9 +41,9 @@ public class StringPropertyParameterTest extends BasicGeneratorPropertyParameter
     public static final String TYPE_BEARER = null;
 
     @Override protected void primeSourceOfRandomness() {
-        when(Generating.charsForString(randomForParameterGenerator))
-            .thenReturn(0x61).thenReturn(0x62).thenReturn(0x63)
-            .thenReturn(0x64).thenReturn(0x65).thenReturn(0x66);
+        charsForStringInBulk(
+            randomForParameterGenerator,
+            0x61, 0x62, 0x63, 0x64, 0x65, 0x66);
         when(distro.sampleWithMean(1, randomForParameterGenerator))
             .thenReturn(0);
         when(distro.sampleWithMean(2, randomForParameterGenerator))
@@ -63,7 +63,7 @@ public class StringPropertyParameterTest extends BasicGeneratorPropertyParameter
     }
 
     @Override public void verifyInteractionWithRandomness() {
-        verifyCharsForString(randomForParameterGenerator, times(6));
+        verifyCharsForStringInBulk(randomForParameterGenerator, times(4));
         verify(distro).sampleWithMean(1, randomForParameterGenerator);
         verify(distro).sampleWithMean(2, randomForParameterGenerator);
         verify(distro).sampleWithMean(3, randomForParameterGenerator);
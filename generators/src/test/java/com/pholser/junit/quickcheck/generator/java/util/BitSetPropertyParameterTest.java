@@ -28,7 +28,6 @@ package com.pholser.junit.quickcheck.generator.java.util;
 import java.util.BitSet;
 import java.util.List;
 
-import com.pholser.junit.quickcheck.Generating;
 import com.pholser.junit.quickcheck.generator.BasicGeneratorPropertyParameterTest;
 
 import static com.pholser.junit.quickcheck.Generating.*;
@@ -41,8 +40,7 @@ public class BitSetPropertyParameterTest
     public static final BitSet TYPE_BEARER = null;
 
     @Override protected void primeSourceOfRandomness() {
-        when(Generating.booleans(randomForParameterGenerator))
-            .thenReturn(true).thenReturn(false).thenReturn(true);
+        booleansInBulk(randomForParameterGenerator, 0b1L, 0b10L);
         when(distro.sampleWithMean(1, randomForParameterGenerator))
             .thenReturn(0);
         when(distro.sampleWithMean(2, randomForParameterGenerator))
@@ -65,6 +63,6 @@ public class BitSetPropertyParameterTest
     }
 
     @Override public void verifyInteractionWithRandomness() {
-        verifyBooleans(randomForParameterGenerator, times(3));
+        verifyBooleansInBulk(randomForParameterGenerator, times(3));
     }
 }
@@ -28,7 +28,6 @@ package com.pholser.junit.quickcheck.generator.java.util;
 import java.util.List;
 import java.util.Properties;
 
-import com.pholser.junit.quickcheck.Generating;
 import com.pholser.junit.quickcheck.generator.BasicGeneratorPropertyParameterTest;
 
 import static com.pholser.junit.quickcheck.Generating.*;
@@ -41,10 +40,9 @@ public class PropertiesPropertyParameterTest
     public static final Properties TYPE_BEARER = null;
 
     @Override protected void primeSourceOfRandomness() {
-        when(Generating.charsForString(randomForParameterGenerator))
-            .thenReturn(0x61).thenReturn(0x62).thenReturn(0x63).thenReturn(0x64)
-            .thenReturn(0x65).thenReturn(0x66).thenReturn(0x67).thenReturn(0x68)
-            .thenReturn(0x69).thenReturn(0x6a);
+        charsForStringInBulk(
+            randomForParameterGenerator,
+            0x61, 0x62, 0x63, 0x64, 0x65, 0x66, 0x67, 0x68, 0x69, 0x6a);
         when(distro.sampleWithMean(1, randomForParameterGenerator))
             .thenReturn(0);
         when(distro.sampleWithMean(2, randomForParameterGenerator))
@@ -67,6 +65,6 @@ public class PropertiesPropertyParameterTest
     }
 
     @Override public void verifyInteractionWithRandomness() {
-        verifyCharsForString(randomForParameterGenerator, times(10));
+        verifyCharsForStringInBulk(randomForParameterGenerator, times(6));
     }
 }
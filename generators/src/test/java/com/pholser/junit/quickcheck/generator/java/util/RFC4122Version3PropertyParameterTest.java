@@ -29,7 +29,6 @@ import java.util.List;
 import java.util.UUID;
 
 import com.pholser.junit.quickcheck.From;
-import com.pholser.junit.quickcheck.Generating;
 import com.pholser.junit.quickcheck.generator.BasicGeneratorPropertyParameterTest;
 
 import static com.pholser.junit.quickcheck.Generating.*;
@@ -45,9 +44,9 @@ public class RFC4122Version3PropertyParameterTest
     public static final UUID TYPE_BEARER = null;
 
     @Override protected void primeSourceOfRandomness() {
-        when(Generating.charsForString(randomForParameterGenerator))
-            .thenReturn(0x61).thenReturn(0x62).thenReturn(0x63)
-            .thenReturn(0x64).thenReturn(0x65).thenReturn(0x66);
+        charsForStringInBulk(
+            randomForParameterGenerator,
+            0x61, 0x62, 0x63, 0x64, 0x65, 0x66);
         when(distro.sampleWithMean(1, randomForParameterGenerator))
             .thenReturn(0);
         when(distro.sampleWithMean(2, randomForParameterGenerator))
@@ -71,6 +70,6 @@ public class RFC4122Version3PropertyParameterTest
     }
 
     @Override public void verifyInteractionWithRandomness() {
-        verifyCharsForString(randomForParameterGenerator, times(6));
+        verifyCharsForStringInBulk(randomForParameterGenerator, times(4));
     }
 }